@@ -0,0 +1,77 @@
+package com.example.calander.bench;
+
+import com.example.calander.core.Category;
+import com.example.calander.core.Event;
+import com.example.calander.core.EventStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Month walks on three rendering threads while a fourth adds and removes events, against a
+ * render-only baseline; lock-free reads should keep the two close.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentStoreBenchmark {
+    private static final int PROBES = 1024;
+
+    @Param({"10000", "100000"})
+    public int eventCount;
+
+    private EventStore store;
+    private final LocalDate[] days = new LocalDate[PROBES];
+    private final Event[] writes = new Event[PROBES];
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        store = Fixtures.store(Fixtures.events(eventCount, 2, 42));
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < PROBES; i++) {
+            days[i] = Fixtures.randomDate(random);
+            LocalDate d = Fixtures.randomDate(random);
+            writes[i] = new Event("sync " + i, "", Category.WORK, d.getYear(), d.getMonthValue(), d.getDayOfMonth(), null, null);
+        }
+    }
+
+    private void walk(Cursor cursor, Blackhole bh) {
+        LocalDate d = days[cursor.next++ & (PROBES - 1)];
+        store.forEachInMonth(d.getYear(), d.getMonthValue(), (day, category, reminder, e) -> bh.consume(category));
+    }
+
+    @Benchmark
+    @Group("renderOnly")
+    @GroupThreads(3)
+    public void renderAlone(Cursor cursor, Blackhole bh) {
+        walk(cursor, bh);
+    }
+
+    @Benchmark
+    @Group("renderWhileWriting")
+    @GroupThreads(3)
+    public void render(Cursor cursor, Blackhole bh) {
+        walk(cursor, bh);
+    }
+
+    @Benchmark
+    @Group("renderWhileWriting")
+    @GroupThreads(1)
+    public void write(Cursor cursor) {
+        int i = cursor.next++;
+        Event e = writes[(i >> 1) & (PROBES - 1)];
+        if ((i & 1) == 0) store.add(e);
+        else store.remove(e);
+    }
+}
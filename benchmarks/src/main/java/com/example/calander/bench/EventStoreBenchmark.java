@@ -0,0 +1,58 @@
+package com.example.calander.bench;
+
+import com.example.calander.core.Event;
+import com.example.calander.core.EventStore;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/** Day and month lookups against stores of 1k to 1M events, 2% of them recurring. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventStoreBenchmark {
+    private static final int PROBES = 1024;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int eventCount;
+
+    private EventStore store;
+    private final LocalDate[] days = new LocalDate[PROBES];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        store = Fixtures.store(Fixtures.events(eventCount, 2, 42));
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < PROBES; i++) days[i] = Fixtures.randomDate(random);
+    }
+
+    private LocalDate nextDay() {
+        return days[next++ & (PROBES - 1)];
+    }
+
+    @Benchmark
+    public List<Event> getEvents() {
+        LocalDate d = nextDay();
+        return store.getEvents(d.getYear(), d.getMonthValue(), d.getDayOfMonth());
+    }
+
+    @Benchmark
+    public List<Event>[] getMonth() {
+        return store.getMonth(YearMonth.from(nextDay()));
+    }
+
+    @Benchmark
+    public void forEachInMonth(Blackhole bh) {
+        LocalDate d = nextDay();
+        store.forEachInMonth(d.getYear(), d.getMonthValue(), (day, category, reminder, e) -> bh.consume(e));
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.calander.bench;
+
+import com.example.calander.core.Category;
+import com.example.calander.core.Event;
+import com.example.calander.core.EventStore;
+import com.example.calander.core.RecurrenceRule;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic calendars for the benchmarks. Events are spread over {@link #YEARS}
+ * years from {@link #FIRST_YEAR}; titles mix a common, an occasional and a rare term so search
+ * benchmarks can pick their selectivity.
+ */
+final class Fixtures {
+    static final int FIRST_YEAR = 2024;
+    static final int YEARS = 3;
+    /** In every title. */
+    static final String COMMON = "meeting";
+    /** In roughly 5% of titles. */
+    static final String OCCASIONAL = "dentist";
+    /** In roughly 0.1% of titles. */
+    static final String RARE = "passport";
+
+    private static final String[] WORDS = {"team", "review", "lunch", "call", "gym", "report", "class", "trip"};
+    private static final RecurrenceRule[] RULES = {
+            RecurrenceRule.YEARLY,
+            RecurrenceRule.of(RecurrenceRule.Frequency.WEEKLY, 1),
+            RecurrenceRule.of(RecurrenceRule.Frequency.WEEKLY, 2),
+            RecurrenceRule.of(RecurrenceRule.Frequency.MONTHLY, 1),
+            RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=2TU"),
+            RecurrenceRule.parse("FREQ=DAILY;COUNT=30"),
+    };
+
+    private Fixtures() {
+    }
+
+    /**
+     * Returns {@code count} events; {@code recurringPercent} of them are recurring series and
+     * roughly a quarter carry a reminder.
+     */
+    static List<Event> events(int count, int recurringPercent, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate date = randomDate(random);
+            RecurrenceRule rule = random.nextInt(100) < recurringPercent ? RULES[random.nextInt(RULES.length)] : null;
+            LocalTime reminder = random.nextInt(4) == 0 ? LocalTime.of(random.nextInt(24), random.nextInt(60)) : null;
+            events.add(new Event(title(random), "note " + i, Category.of(random.nextInt(Category.values().length)),
+                    date.getYear(), date.getMonthValue(), date.getDayOfMonth(), rule, reminder));
+        }
+        return events;
+    }
+
+    static EventStore store(List<Event> events) {
+        EventStore store = new EventStore();
+        store.addAll(events);
+        return store;
+    }
+
+    static LocalDate randomDate(SplittableRandom random) {
+        return LocalDate.of(FIRST_YEAR, 1, 1).plusDays(random.nextInt(YEARS * 365));
+    }
+
+    private static String title(SplittableRandom random) {
+        StringBuilder title = new StringBuilder(WORDS[random.nextInt(WORDS.length)]).append(' ').append(COMMON);
+        if (random.nextInt(20) == 0) title.append(' ').append(OCCASIONAL);
+        if (random.nextInt(1000) == 0) title.append(' ').append(RARE);
+        return title.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.calander.bench;
+
+import com.example.calander.core.Category;
+import com.example.calander.core.Event;
+import com.example.calander.core.EventStore;
+import com.example.calander.core.FreeBusy;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Availability across many calendars for one month, evaluated by the fork-join reduction, and
+ * the conflict check the day dialog runs on save.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FreeBusyBenchmark {
+    private static final LocalDate FROM = LocalDate.of(Fixtures.FIRST_YEAR + 1, 3, 1);
+
+    @Param({"100", "5000"})
+    public int calendars;
+
+    /** Events per calendar over the fixture years. */
+    @Param({"500"})
+    public int eventsPerCalendar;
+
+    private List<EventStore> stores;
+    private Event candidate;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(11);
+        stores = new ArrayList<>(calendars);
+        for (int c = 0; c < calendars; c++) {
+            List<Event> events = Fixtures.events(eventsPerCalendar, 2, c);
+            for (Event e : events) {
+                int start = 7 * 60 + random.nextInt(12 * 60);
+                if (random.nextInt(5) > 0) e.setMinutes(start, start + 15 * (1 + random.nextInt(8)));
+            }
+            stores.add(Fixtures.store(events));
+        }
+        candidate = new Event("candidate", "", Category.WORK, FROM.getYear(), FROM.getMonthValue(), 1, null, null);
+        candidate.setMinutes(9 * 60, 17 * 60);
+    }
+
+    @Benchmark
+    public List<FreeBusy.Slot> availableMonth() {
+        return FreeBusy.available(stores, FROM, FROM.plusMonths(1).minusDays(1), LocalTime.of(9, 0), LocalTime.of(17, 0), 30);
+    }
+
+    @Benchmark
+    public List<Event> conflictsOnSave() {
+        return FreeBusy.conflicts(stores.get(0), candidate, FROM);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.calander.bench;
+
+import com.example.calander.core.Event;
+import com.example.calander.core.EventStore;
+import com.example.calander.core.MonthLayout;
+import com.example.calander.core.MonthLayoutCache;
+import com.example.calander.core.SearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Builds the model behind the month grid, as month navigation does, with and without an active
+ * search filter, and looks it up in the engine's layout cache while paging through one year.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonthLayoutBenchmark {
+    private static final LocalDate TODAY = LocalDate.of(Fixtures.FIRST_YEAR + 1, 6, 15);
+
+    @Param({"10000", "100000", "1000000"})
+    public int eventCount;
+
+    private EventStore store;
+    private Predicate<Event> searchFilter;
+    private MonthLayoutCache cache;
+    private final YearMonth[] months = new YearMonth[Fixtures.YEARS * 12];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        store = Fixtures.store(Fixtures.events(eventCount, 2, 42));
+        SearchIndex index = new SearchIndex();
+        index.addAll(store.all());
+        Set<Event> hits = index.query(Fixtures.OCCASIONAL);
+        searchFilter = hits::contains;
+        for (int i = 0; i < months.length; i++) months[i] = YearMonth.of(Fixtures.FIRST_YEAR, 1).plusMonths(i);
+        cache = new MonthLayoutCache(store, 24, Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @TearDown
+    public void tearDown() {
+        cache.shutdown();
+    }
+
+    private YearMonth nextMonth() {
+        YearMonth month = months[next];
+        next = (next + 1) % months.length;
+        return month;
+    }
+
+    @Benchmark
+    public MonthLayout unfiltered() {
+        return MonthLayout.build(nextMonth(), store, e -> true, TODAY);
+    }
+
+    @Benchmark
+    public MonthLayout cached() {
+        next = (next + 1) % 12;
+        return cache.get(months[12 + next]);
+    }
+
+    @Benchmark
+    public MonthLayout searchFiltered() {
+        return MonthLayout.build(nextMonth(), store, searchFilter, TODAY);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.calander.bench;
+
+import com.example.calander.core.EventStore;
+import com.example.calander.core.RecurrenceRule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recurring-event expansion: single rules expanded over a month far from their start, and whole
+ * months of a store holding only series. The month sweep spans more months than the store
+ * caches, so every invocation expands from scratch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecurrenceBenchmark {
+    private static final LocalDate START = LocalDate.of(2020, 1, 31);
+    private static final int WINDOW_FROM = (int) LocalDate.of(2035, 3, 1).toEpochDay();
+    private static final int WINDOW_TO = WINDOW_FROM + 30;
+    private static final int SWEEP_MONTHS = 120;
+
+    @State(Scope.Benchmark)
+    public static class RuleState {
+        @Param({"FREQ=DAILY", "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE,FR", "FREQ=MONTHLY;BYDAY=-1FR", "FREQ=YEARLY"})
+        public String rule;
+
+        RecurrenceRule parsed;
+
+        @Setup
+        public void setUp() {
+            parsed = RecurrenceRule.parse(rule);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class StoreState {
+        @Param({"1000", "10000"})
+        public int seriesCount;
+
+        EventStore store;
+        int month;
+
+        @Setup
+        public void setUp() {
+            store = Fixtures.store(Fixtures.events(seriesCount, 100, 42));
+        }
+    }
+
+    @Benchmark
+    public int expandRule(RuleState state) {
+        int[] sum = {0};
+        state.parsed.forEachOccurrence(START, WINDOW_FROM, WINDOW_TO, day -> {
+            sum[0] += day;
+            return true;
+        });
+        return sum[0];
+    }
+
+    @Benchmark
+    public int expandStoreMonth(StoreState state) {
+        int m = state.month;
+        state.month = (m + 1) % SWEEP_MONTHS;
+        int[] count = {0};
+        state.store.forEachInMonth(Fixtures.FIRST_YEAR + m / 12, m % 12 + 1, (day, category, reminder, e) -> count[0]++);
+        return count[0];
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.calander.bench;
+
+import com.example.calander.core.Event;
+import com.example.calander.core.ReminderScheduler;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reminder bookkeeping with many armed events: re-arming one edited event, which replaced the
+ * old minute-tick scan over every event, and arming a whole store as startup does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReminderBenchmark {
+    /** Before every fixture date, so nothing fires while measuring. */
+    private static final Clock CLOCK = Clock.fixed(
+            LocalDate.of(Fixtures.FIRST_YEAR - 1, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Param({"1000", "100000"})
+    public int eventCount;
+
+    private List<Event> events;
+    private ReminderScheduler scheduler;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        events = Fixtures.events(eventCount, 2, 42).stream().filter(e -> e.reminderTime() != null).toList();
+        scheduler = new ReminderScheduler(e -> { }, Runnable::run, CLOCK);
+        for (Event e : events) scheduler.schedule(e);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Benchmark
+    public void reschedule() {
+        scheduler.schedule(events.get(next++ % events.size()));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public int scheduleAll() {
+        ReminderScheduler fresh = new ReminderScheduler(e -> { }, Runnable::run, CLOCK);
+        try {
+            for (Event e : events) fresh.schedule(e);
+            return fresh.size();
+        } finally {
+            fresh.shutdown();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.calander.bench;
+
+import com.example.calander.core.Event;
+import com.example.calander.core.SearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search index queries at different selectivities: a term in every event, in about 5% of them,
+ * in about 0.1%, a two-letter prefix that takes the scan path, and a term that matches nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+    @Param({"10000", "100000"})
+    public int eventCount;
+
+    @Param({"common", "occasional", "rare", "short", "none"})
+    public String selectivity;
+
+    private SearchIndex index;
+    private String query;
+
+    @Setup
+    public void setUp() {
+        index = new SearchIndex();
+        index.addAll(Fixtures.events(eventCount, 2, 42));
+        query = switch (selectivity) {
+            case "common" -> Fixtures.COMMON;
+            case "occasional" -> Fixtures.OCCASIONAL;
+            case "rare" -> Fixtures.RARE;
+            case "short" -> Fixtures.OCCASIONAL.substring(0, 2);
+            default -> "xylophone";
+        };
+    }
+
+    @Benchmark
+    public Set<Event> query() {
+        return index.query(query);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.calander.bench;
+
+import com.example.calander.core.Event;
+import com.example.calander.core.SortedEvents;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Ordering a result set by date for the results pane, and reading one screen of rows from it. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedEventsBenchmark {
+    private static final int SCREEN_ROWS = 40;
+
+    @Param({"100000", "1000000"})
+    public int eventCount;
+
+    private List<Event> events;
+    private SortedEvents sorted;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        events = Fixtures.events(eventCount, 2, 42);
+        sorted = SortedEvents.byDate(events);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SortedEvents sort() {
+        return SortedEvents.byDate(events);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int readScreen() {
+        int first = next;
+        next = (next + 7919 * SCREEN_ROWS) % (sorted.size() - SCREEN_ROWS);
+        int sum = 0;
+        for (int i = first; i < first + SCREEN_ROWS; i++) sum += sorted.get(i).day();
+        return sum;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int jumpToDate() {
+        return sorted.indexOf(LocalDate.of(Fixtures.FIRST_YEAR + 1, 6, 15));
+    }
+}
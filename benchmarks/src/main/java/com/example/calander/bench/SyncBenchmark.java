@@ -0,0 +1,87 @@
+package com.example.calander.bench;
+
+import com.example.calander.core.CalendarEngine;
+import com.example.calander.core.Event;
+import com.example.calander.core.SyncClient;
+import com.example.calander.core.SyncServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Replication latency on localhost: one client edits an event and the benchmark waits until
+ * every connected client has applied it, so the time covers the upload, the server merge and
+ * the fan-out to all clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SyncBenchmark {
+    @Param({"10", "200"})
+    public int clients;
+
+    @Param({"1000"})
+    public int eventCount;
+
+    private Path directory;
+    private SyncServer server;
+    private SyncClient[] replicas;
+    private CalendarEngine writer;
+    private List<Event> events;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("calendar-sync-bench");
+        server = new SyncServer(new InetSocketAddress("127.0.0.1", 0));
+        server.start();
+        InetSocketAddress address = new InetSocketAddress("127.0.0.1", server.port());
+        replicas = new SyncClient[clients];
+        for (int i = 0; i < clients; i++) {
+            CalendarEngine engine = new CalendarEngine();
+            if (i == 0) {
+                writer = engine;
+                engine.addAll(Fixtures.events(eventCount, 2, 42), false);
+            }
+            replicas[i] = new SyncClient(engine, directory.resolve("client" + i), address, Runnable::run, () -> { });
+            replicas[i].start();
+        }
+        events = writer.all();
+        awaitReplicated(eventCount);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (SyncClient client : replicas) client.close();
+        server.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path p : files.sorted(Comparator.reverseOrder()).toList()) Files.delete(p);
+        }
+    }
+
+    @Benchmark
+    public long editAndReplicate() {
+        long before = server.sequence();
+        Event e = events.get(next++ % events.size());
+        String note = "edit " + next;
+        writer.edit(e, ev -> ev.setText(ev.title(), note));
+        return awaitReplicated(before + 1);
+    }
+
+    private long awaitReplicated(long seq) {
+        for (SyncClient client : replicas) {
+            while (client.appliedSeq() < seq) Thread.yield();
+        }
+        return seq;
+    }
+}
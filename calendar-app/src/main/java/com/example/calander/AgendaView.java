@@ -0,0 +1,91 @@
+package com.example.calander;
+
+import com.example.calander.core.CalendarEngine;
+import com.example.calander.core.Event;
+import com.example.calander.core.YearSummary;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.HBox;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.function.Consumer;
+
+/**
+ * Scrollable agenda of the busy days of a year. Which days appear comes from the year's
+ * {@link YearSummary}; events are only fetched for rows that are actually on screen.
+ */
+class AgendaView extends ListView<LocalDate> {
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("EEE, d MMM yyyy");
+    private static final int TITLES_PER_ROW = 3;
+
+    private final CalendarEngine engine;
+    private ResourceBundle bundle;
+
+    AgendaView(CalendarEngine engine, ResourceBundle bundle, Consumer<LocalDate> onDayClicked) {
+        this.engine = engine;
+        this.bundle = bundle;
+        setPrefHeight(480);
+        setCellFactory(list -> new DayRow());
+        setOnMouseClicked(e -> {
+            LocalDate day = getSelectionModel().getSelectedItem();
+            if (e.getButton() == MouseButton.PRIMARY && e.getClickCount() == 2 && day != null) onDayClicked.accept(day);
+        });
+    }
+
+    void setBundle(ResourceBundle bundle) {
+        this.bundle = bundle;
+        refresh();
+    }
+
+    /** Lists every busy day of the summary's year and scrolls to today or the next busy day after it. */
+    void show(YearSummary summary) {
+        int year = summary.year();
+        List<LocalDate> days = getItems();
+        days.clear();
+        for (int day = summary.nextBusyDay(1); day > 0; day = summary.nextBusyDay(day + 1)) {
+            days.add(LocalDate.ofYearDay(year, day));
+        }
+        LocalDate today = LocalDate.now();
+        if (today.getYear() == year) {
+            int next = summary.nextBusyDay(today.getDayOfYear());
+            if (next > 0) scrollTo(LocalDate.ofYearDay(year, next));
+        }
+    }
+
+    private final class DayRow extends ListCell<LocalDate> {
+        private final Label date = new Label();
+        private final Label titles = new Label();
+        private final HBox row = new HBox(12, date, titles);
+        private final StringBuilder text = new StringBuilder();
+
+        DayRow() {
+            date.setMinWidth(150);
+            date.getStyleClass().add("agenda-date");
+        }
+
+        @Override
+        protected void updateItem(LocalDate day, boolean empty) {
+            super.updateItem(day, empty);
+            if (empty || day == null) {
+                setGraphic(null);
+                return;
+            }
+            date.setText(DAY_FORMAT.format(day));
+            List<Event> events = engine.getEvents(day.getYear(), day.getMonthValue(), day.getDayOfMonth());
+            text.setLength(0);
+            for (int i = 0; i < events.size() && i < TITLES_PER_ROW; i++) {
+                Event e = events.get(i);
+                if (i > 0) text.append(" · ");
+                text.append('[').append(bundle.getString(e.category().bundleKey)).append("] ").append(e.title());
+            }
+            if (events.size() > TITLES_PER_ROW) text.append(" +").append(events.size() - TITLES_PER_ROW);
+            titles.setText(text.toString());
+            setGraphic(row);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.calander;
+
+import com.example.calander.core.Event;
+
+import java.util.ResourceBundle;
+
+/**
+ * Row text of an event, appended into a caller-owned builder so list cells format without
+ * intermediate strings or formatters.
+ */
+final class EventText {
+    private EventText() {
+    }
+
+    /** Appends {@code [Category ♻] HH:mm–HH:mm Title - note ⏰HH:mm}, optionally prefixed with the start date. */
+    static StringBuilder append(StringBuilder sb, Event e, ResourceBundle bundle, boolean withDate) {
+        if (withDate) {
+            sb.append(e.year()).append('-');
+            twoDigits(sb, e.month()).append('-');
+            twoDigits(sb, e.day()).append("  ");
+        }
+        sb.append('[').append(bundle.getString(e.category().bundleKey));
+        if (e.isRecurring()) sb.append(" ♻");
+        sb.append("] ");
+        if (!e.isAllDay()) {
+            time(sb, e.startMinute()).append('–');
+            time(sb, e.endMinute()).append(' ');
+        }
+        sb.append(e.title());
+        if (!e.note().isEmpty()) sb.append(" - ").append(e.note());
+        int reminder = e.reminderMinute();
+        if (reminder >= 0) time(sb.append(" ⏰"), reminder);
+        return sb;
+    }
+
+    private static StringBuilder time(StringBuilder sb, int minute) {
+        twoDigits(sb, minute / 60).append(':');
+        return twoDigits(sb, minute % 60);
+    }
+
+    private static StringBuilder twoDigits(StringBuilder sb, int value) {
+        return sb.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+}
@@ -0,0 +1,748 @@
+package com.example.calander;
+
+import com.example.calander.core.*;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+import javafx.stage.FileChooser;
+import javafx.stage.Modality;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+import javafx.util.StringConverter;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.time.*;
+import java.util.*;
+import java.util.function.Consumer;
+
+public class LiquidGlassCalendar extends Application {
+    private static final String[] REPEAT_KEYS = {"repeat_none", "repeat_daily", "repeat_weekly", "repeat_biweekly",
+            "repeat_monthly", "repeat_monthly_weekday", "repeat_yearly"};
+    private static final String[] VIEW_KEYS = {"view_month", "view_year", "view_agenda", "view_results"};
+    private static final Map<String, Probe> RENDER = Map.of(
+            "view_month", Metrics.probe("render.month"), "view_year", Metrics.probe("render.year"),
+            "view_agenda", Metrics.probe("render.agenda"), "view_results", Metrics.probe("render.results"));
+    private static final Probe THEME = Metrics.probe("theme.apply");
+    /**
+     * Resolved once; JavaFX parses a stylesheet once per URL and shares it across scenes. Null if
+     * the resource is missing, in which case the app starts unstyled rather than failing to load.
+     */
+    private static final String STYLESHEET = stylesheet();
+
+    /** Reminders due within half a second share one notification; open ones escalate after two minutes. */
+    private final ReminderBatcher reminders = new ReminderBatcher(this::showReminders, Platform::runLater, 1024,
+            Duration.ofMillis(500), Duration.ofMinutes(2));
+    private final CalendarEngine engine = new CalendarEngine(new EventJournal(EventJournal.defaultDirectory()),
+            new ReminderScheduler(reminders::offer, Runnable::run));
+    private final SearchEngine searchEngine = new SearchEngine(engine.searchIndex(), 200, this::applySearch, Platform::runLater);
+    private Set<Event> searchHits;
+    private ComboBox<Integer> yearCombo;
+    private ComboBox<String> monthCombo;
+    private MonthGrid calendarGrid;
+    private YearView yearView;
+    private AgendaView agendaView;
+    private ResultsView resultsView;
+    private ComboBox<String> viewPicker;
+    private Pane glassPane;
+    private ToggleButton darkModeToggle;
+    private ComboBox<Theme> themePicker;
+    private Theme theme = Theme.LIGHT;
+    private ComboBox<String> langPicker;
+    private TextField searchBar;
+    private VBox sidebarMenu;
+    private ResourceBundle bundle;
+    private String currentLang = Messages.ENGLISH;
+    private Scene mainScene;
+    private Stage stage;
+    private final Map<Labeled, String> localizedControls = new HashMap<>();
+    private SyncServer syncServer;
+    private SyncClient syncClient;
+    private ReminderPanel reminderPanel;
+    // Batches delivered while init() loads, before start() has built the scene; FX thread only.
+    private final List<List<ReminderBatcher.Notification>> earlyReminders = new ArrayList<>();
+
+    @Override
+    public void init() throws Exception {
+        engine.publishTo(new SnapshotPublisher(EventJournal.defaultDirectory(), engine::all, Runnable::run, 1000));
+        engine.load();
+        startSync();
+    }
+
+    @Override
+    public void stop() throws Exception {
+        searchEngine.shutdown();
+        reminders.close();
+        if (syncClient != null) syncClient.close();
+        if (syncServer != null) syncServer.close();
+        engine.close();
+    }
+
+    /**
+     * Optional network sync: {@code -Dcalendar.syncListen=port} embeds a sync server in this
+     * instance and {@code -Dcalendar.syncServer=host:port} replicates this calendar through one.
+     */
+    private void startSync() throws IOException {
+        String listen = System.getProperty("calendar.syncListen");
+        if (listen != null) {
+            syncServer = new SyncServer(new InetSocketAddress(Integer.parseInt(listen)));
+            syncServer.start();
+        }
+        String server = System.getProperty("calendar.syncServer");
+        if (server != null) {
+            int colon = server.lastIndexOf(':');
+            InetSocketAddress address = new InetSocketAddress(server.substring(0, colon), Integer.parseInt(server.substring(colon + 1)));
+            syncClient = new SyncClient(engine, EventJournal.defaultDirectory(), address, Platform::runLater, this::remoteChanged);
+            syncClient.start();
+        }
+    }
+
+    /** Redraws after changes from other replicas; they may arrive before the window is built. */
+    private void remoteChanged() {
+        if (calendarGrid == null) return;
+        updateCalendar();
+        refreshSearch();
+    }
+
+    @Override
+    public void start(Stage primaryStage) {
+        stage = primaryStage;
+        bundle = Messages.bundle(currentLang);
+        // The year list is only boxed when first opened; until then the combo just shows its value.
+        yearCombo = new ComboBox<>();
+        yearCombo.setValue(LocalDate.now().getYear());
+        yearCombo.setOnShowing(e -> {
+            if (yearCombo.getItems().isEmpty()) for (int y = 1990; y <= 2050; y++) yearCombo.getItems().add(y);
+        });
+
+        monthCombo = new ComboBox<>();
+        for (Month m : Month.values()) monthCombo.getItems().add(m.name());
+        monthCombo.setValue(LocalDate.now().getMonth().name());
+
+        themePicker = new ComboBox<>();
+        themePicker.getItems().addAll(Theme.values());
+        themePicker.setValue(Theme.LIGHT);
+
+        darkModeToggle = localized(new ToggleButton(), "dark_mode");
+
+        langPicker = new ComboBox<>();
+        langPicker.getItems().addAll(Messages.LANGUAGES);
+        langPicker.setValue(currentLang);
+
+        searchBar = new TextField();
+        searchBar.setPromptText(bundle.getString("search_events"));
+
+        Button hamburger = new Button("☰");
+        hamburger.setOnAction(e -> toggleSidebar());
+
+        viewPicker = new ComboBox<>();
+        viewPicker.getItems().addAll(VIEW_KEYS);
+        viewPicker.setConverter(bundleConverter());
+        viewPicker.setValue("view_month");
+
+        HBox topBar = new HBox(10, hamburger, viewPicker, monthCombo, yearCombo, searchBar, themePicker, darkModeToggle, langPicker);
+        topBar.setAlignment(Pos.CENTER_LEFT);
+        topBar.setPadding(new Insets(10));
+        topBar.getStyleClass().add("top-bar-glass");
+
+        calendarGrid = new MonthGrid(dayNames(), this::openDay);
+
+        glassPane = createGlassPane();
+        glassPane.getChildren().addAll(topBar, calendarGrid);
+
+        StackPane.setAlignment(glassPane, Pos.CENTER);
+        StackPane root = new StackPane(glassPane);
+        root.setPadding(new Insets(40));
+        root.getStyleClass().add("background-image");
+
+        updateCalendar();
+
+        mainScene = new Scene(root, 950, 700);
+        style(mainScene);
+        MetricsOverlay.watch(mainScene);
+
+        yearCombo.setOnAction(e -> updateCalendar());
+        monthCombo.setOnAction(e -> updateCalendar());
+        viewPicker.setOnAction(e -> switchView());
+        themePicker.setOnAction(e -> applyTheme(themePicker.getValue()));
+        darkModeToggle.setOnAction(e -> applyTheme(darkModeToggle.isSelected() ? Theme.DARK : themePicker.getValue()));
+        langPicker.setOnAction(e -> switchLanguage(langPicker.getValue()));
+        searchBar.textProperty().addListener((obs, o, n) -> searchEngine.submit(n));
+
+        primaryStage.setTitle(bundle.getString("calendar_title"));
+        primaryStage.setScene(mainScene);
+        applyTheme(Theme.LIGHT);
+        primaryStage.show();
+        for (List<ReminderBatcher.Notification> batch : earlyReminders) showReminders(batch);
+        earlyReminders.clear();
+        reportFirstFrame();
+    }
+
+    /**
+     * Logs the time from JVM start to the first pulse after the stage is shown when
+     * {@code calendar.startupLog} is set, and records it as {@code startup.firstFrame}. With
+     * {@code calendar.exitAfterFirstFrame} the app then quits, which ends the AppCDS training run.
+     */
+    private void reportFirstFrame() {
+        mainScene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                mainScene.removePostLayoutPulseListener(this);
+                Instant jvmStart = ProcessHandle.current().info().startInstant().orElse(Instant.now());
+                long nanos = java.time.Duration.between(jvmStart, Instant.now()).toNanos();
+                Metrics.probe("startup.firstFrame").latency().record(nanos);
+                if (Boolean.getBoolean("calendar.startupLog")) System.err.printf("First frame after %,d ms%n", nanos / 1_000_000);
+                if (Boolean.getBoolean("calendar.exitAfterFirstFrame")) Platform.exit();
+            }
+        });
+    }
+
+    private void updateCalendar() {
+        int year = yearCombo.getValue();
+        Probe probe = RENDER.get(viewPicker.getValue());
+        long started = probe.start();
+        switch (viewPicker.getValue()) {
+            case "view_year" -> yearView().show(engine.yearSummary(year));
+            case "view_agenda" -> agendaView().show(engine.yearSummary(year));
+            case "view_results" -> resultsView().show(searchHits == null ? engine.all() : searchHits);
+            default -> calendarGrid.show(engine.layout(YearMonth.of(year, Month.valueOf(monthCombo.getValue())),
+                    searchHits == null ? null : this::matchesSearch));
+        }
+        probe.stop(started);
+    }
+
+    /** Puts the selected view in place of the current one; the month picker only applies to the month view. */
+    private void switchView() {
+        Node view = switch (viewPicker.getValue()) {
+            case "view_year" -> yearView();
+            case "view_agenda" -> agendaView();
+            case "view_results" -> resultsView();
+            default -> calendarGrid;
+        };
+        glassPane.getChildren().set(1, view);
+        monthCombo.setDisable(view != calendarGrid);
+        yearCombo.setDisable(view == resultsView);
+        updateCalendar();
+    }
+
+    // The other views are only built the first time they are picked.
+    private YearView yearView() {
+        if (yearView == null) yearView = new YearView(this::openDay);
+        return yearView;
+    }
+
+    private AgendaView agendaView() {
+        if (agendaView == null) agendaView = new AgendaView(engine, bundle, this::openDay);
+        return agendaView;
+    }
+
+    private ResultsView resultsView() {
+        if (resultsView == null) resultsView = new ResultsView(bundle, e -> openDay(e.date()));
+        return resultsView;
+    }
+
+    private void openDay(LocalDate date) {
+        showDayModal(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /** Sets a control's text from the bundle and re-applies it on every language switch. */
+    private <T extends Labeled> T localized(T control, String key) {
+        control.setText(bundle.getString(key));
+        localizedControls.put(control, key);
+        return control;
+    }
+
+    /** Relabels the running window in place instead of rebuilding the stage. */
+    private void switchLanguage(String language) {
+        currentLang = language;
+        bundle = Messages.bundle(language);
+        localizedControls.forEach((control, key) -> control.setText(bundle.getString(key)));
+        searchBar.setPromptText(bundle.getString("search_events"));
+        stage.setTitle(bundle.getString("calendar_title"));
+        calendarGrid.setDayNames(dayNames());
+        viewPicker.setConverter(bundleConverter());
+        if (agendaView != null) agendaView.setBundle(bundle);
+        if (resultsView != null) resultsView.setBundle(bundle);
+        if (reminderPanel != null) reminderPanel.setBundle(bundle);
+        updateCalendar();
+    }
+
+    private String[] dayNames() {
+        return new String[] {bundle.getString("mon"), bundle.getString("tue"), bundle.getString("wed"),
+                bundle.getString("thu"), bundle.getString("fri"), bundle.getString("sat"), bundle.getString("sun")};
+    }
+
+    private StringConverter<String> bundleConverter() {
+        return new StringConverter<>() {
+            @Override
+            public String toString(String key) {
+                return key == null ? "" : bundle.getString(key);
+            }
+
+            @Override
+            public String fromString(String s) {
+                return s;
+            }
+        };
+    }
+
+    /**
+     * Refreshes the view after an event changed: only its own cell for a one-off event in the
+     * month view, the whole view otherwise.
+     */
+    private void refreshAfterChange(Event e, boolean wasRecurring) {
+        if (wasRecurring || e.isRecurring() || !"view_month".equals(viewPicker.getValue())) updateCalendar();
+        else refreshDay(e.date());
+        refreshSearch();
+    }
+
+    private static RecurrenceRule presetRule(String key, LocalDate start) {
+        switch (key) {
+            case "repeat_daily": return RecurrenceRule.of(RecurrenceRule.Frequency.DAILY, 1);
+            case "repeat_weekly": return RecurrenceRule.of(RecurrenceRule.Frequency.WEEKLY, 1);
+            case "repeat_biweekly": return RecurrenceRule.of(RecurrenceRule.Frequency.WEEKLY, 2);
+            case "repeat_monthly": return RecurrenceRule.of(RecurrenceRule.Frequency.MONTHLY, 1);
+            case "repeat_monthly_weekday": return RecurrenceRule.monthlyByWeekday(start, 1);
+            case "repeat_yearly": return RecurrenceRule.YEARLY;
+            default: return null;
+        }
+    }
+
+    /** Returns the preset matching a rule, or "repeat_custom" for imported rules the picker cannot express. */
+    private static String presetKey(RecurrenceRule rule, LocalDate start) {
+        if (rule == null) return "repeat_none";
+        for (String key : REPEAT_KEYS) {
+            RecurrenceRule preset = presetRule(key, start);
+            if (preset != null && preset.toString().equals(rule.toString())) return key;
+        }
+        return "repeat_custom";
+    }
+
+    /** Re-renders only the given day's cell if it falls in the displayed month. */
+    private void refreshDay(LocalDate date) {
+        if (!YearMonth.from(date).equals(calendarGrid.getYearMonth())) return;
+        calendarGrid.patchDay(date.getDayOfMonth(), engine.store(), this::matchesSearch);
+    }
+
+    private Pane createGlassPane() {
+        VBox pane = new VBox(20);
+        pane.setAlignment(Pos.TOP_CENTER);
+        pane.setPrefSize(900, 600);
+        pane.setPadding(new Insets(25));
+        pane.getStyleClass().add("glass-pane");
+        return pane;
+    }
+
+    private void showDayModal(int year, int month, int day) {
+        Stage dialog = new Stage();
+        dialog.initModality(Modality.APPLICATION_MODAL);
+        dialog.setTitle(bundle.getString("add_event"));
+
+        VBox box = new VBox(15);
+        box.setPadding(new Insets(20));
+        box.setAlignment(Pos.TOP_CENTER);
+        box.getStyleClass().add("glass-modal");
+        theme.applyTo(box);
+
+        List<Event> todaysEvents = engine.getEvents(year, month, day);
+
+        Label dateLabel = new Label(year + "-" + String.format("%02d", month) + "-" + String.format("%02d", day));
+        dateLabel.getStyleClass().add("section-title");
+
+        ListView<Event> eventList = new ListView<>(FXCollections.observableList(todaysEvents));
+        eventList.setCellFactory(list -> new ListCell<Event>() {
+            private final StringBuilder text = new StringBuilder(64);
+
+            @Override
+            protected void updateItem(Event e, boolean empty) {
+                super.updateItem(e, empty);
+                if (empty || e == null) {
+                    setText(null);
+                } else {
+                    text.setLength(0);
+                    setText(EventText.append(text, e, bundle, false).toString());
+                }
+            }
+        });
+
+        TextField titleField = new TextField();
+        titleField.setPromptText(bundle.getString("event_title"));
+        TextField noteField = new TextField();
+        noteField.setPromptText(bundle.getString("event_note"));
+        ComboBox<Category> catCombo = new ComboBox<>();
+        catCombo.getItems().addAll(Category.values());
+        catCombo.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(Category c) {
+                return c == null ? "" : bundle.getString(c.bundleKey);
+            }
+
+            @Override
+            public Category fromString(String s) {
+                return Category.parse(s);
+            }
+        });
+        catCombo.setValue(Category.OTHER);
+
+        LocalDate date = LocalDate.of(year, month, day);
+        ComboBox<String> repeatCombo = new ComboBox<>();
+        repeatCombo.getItems().addAll(REPEAT_KEYS);
+        repeatCombo.setPromptText(bundle.getString("recurring"));
+        repeatCombo.setConverter(bundleConverter());
+        repeatCombo.setValue("repeat_none");
+        TimePicker reminderPicker = new TimePicker();
+        TimePicker startPicker = new TimePicker();
+        startPicker.setPromptText(bundle.getString("start_time"));
+        TimePicker endPicker = new TimePicker();
+        endPicker.setPromptText(bundle.getString("end_time"));
+        startPicker.valueProperty().addListener((obs, o, start) -> {
+            if (start != null && endPicker.getValue() == null && start.getHour() < 23) endPicker.setValue(start.plusHours(1));
+        });
+        HBox timeBox = new HBox(10, startPicker, endPicker, reminderPicker);
+        timeBox.setAlignment(Pos.CENTER);
+
+        Button addBtn = new Button(bundle.getString("save"));
+        addBtn.setOnAction(e -> {
+            if (!titleField.getText().trim().isEmpty() && validTimes(startPicker.getValue(), endPicker.getValue())) {
+                Event ev = new Event(
+                        titleField.getText(),
+                        noteField.getText(),
+                        catCombo.getValue(),
+                        year, month, day,
+                        presetRule(repeatCombo.getValue(), date),
+                        reminderPicker.getValue()
+                );
+                ev.setTimes(startPicker.getValue(), endPicker.getValue());
+                if (!confirmConflicts(FreeBusy.conflicts(engine.store(), ev, date))) return;
+                engine.add(ev);
+                eventList.getItems().add(ev);
+                refreshAfterChange(ev, false);
+                titleField.clear(); noteField.clear(); catCombo.setValue(Category.OTHER);
+                repeatCombo.setValue("repeat_none"); reminderPicker.setValue(null);
+                startPicker.setValue(null); endPicker.setValue(null);
+            }
+        });
+
+        Button editBtn = new Button(bundle.getString("edit_event"));
+        Button delBtn = new Button(bundle.getString("delete_event"));
+        Button skipBtn = new Button(bundle.getString("skip_day"));
+        editBtn.setDisable(true); delBtn.setDisable(true); skipBtn.setDisable(true);
+        // The selected event as the form was filled from it; an edit only writes the fields the
+        // user changed, so a remote edit arriving meanwhile survives in the others.
+        Event[] shown = new Event[1];
+
+        eventList.getSelectionModel().selectedItemProperty().addListener((obs, o, selected) -> {
+            editBtn.setDisable(selected == null);
+            delBtn.setDisable(selected == null);
+            skipBtn.setDisable(selected == null || !selected.isRecurring());
+            if (selected != null) {
+                shown[0] = new Event(selected.title(), selected.note(), selected.category(), year, month, day,
+                        selected.recurrence(), selected.reminderTime());
+                shown[0].setMinutes(selected.startMinute(), selected.endMinute());
+                titleField.setText(selected.title());
+                noteField.setText(selected.note());
+                catCombo.setValue(selected.category());
+                String repeatKey = presetKey(selected.recurrence(), selected.date());
+                if (!repeatCombo.getItems().contains(repeatKey)) repeatCombo.getItems().add(repeatKey);
+                repeatCombo.setValue(repeatKey);
+                reminderPicker.setValue(selected.reminderTime());
+                startPicker.setValue(selected.startTime());
+                endPicker.setValue(selected.endTime());
+            }
+        });
+
+        editBtn.setOnAction(e -> {
+            Event selected = eventList.getSelectionModel().getSelectedItem();
+            if (selected != null && !titleField.getText().trim().isEmpty() && validTimes(startPicker.getValue(), endPicker.getValue())) {
+                // Checked on a stand-in so nothing is changed if the user backs out.
+                Event span = new Event("", "", Category.OTHER, year, month, day, null, null);
+                span.setTimes(startPicker.getValue(), endPicker.getValue());
+                List<Event> conflicts = FreeBusy.conflicts(engine.store(), span, date);
+                conflicts.removeIf(c -> c == selected);
+                if (!confirmConflicts(conflicts)) return;
+                Event before = shown[0];
+                String title = titleField.getText(), note = noteField.getText(), repeatKey = repeatCombo.getValue();
+                Category category = catCombo.getValue();
+                LocalTime reminder = reminderPicker.getValue();
+                boolean[] wasRecurring = new boolean[1];
+                boolean edited = engine.edit(selected, ev -> {
+                    wasRecurring[0] = ev.isRecurring();
+                    ev.setText(title.equals(before.title()) ? ev.title() : title, note.equals(before.note()) ? ev.note() : note);
+                    if (category != before.category()) ev.setCategory(category);
+                    if (!repeatKey.equals(presetKey(before.recurrence(), before.date())) && !"repeat_custom".equals(repeatKey)) {
+                        ev.setRecurrence(presetRule(repeatKey, ev.date()));
+                    }
+                    if (!Objects.equals(reminder, before.reminderTime())) ev.setReminderTime(reminder);
+                    if (span.startMinute() != before.startMinute() || span.endMinute() != before.endMinute()) {
+                        ev.setMinutes(span.startMinute(), span.endMinute());
+                    }
+                });
+                if (!edited) {
+                    // Deleted meanwhile, e.g. on another machine.
+                    eventList.getItems().remove(selected);
+                    updateCalendar();
+                    return;
+                }
+                eventList.refresh();
+                refreshAfterChange(selected, wasRecurring[0]);
+            }
+        });
+
+        skipBtn.setOnAction(e -> {
+            Event selected = eventList.getSelectionModel().getSelectedItem();
+            if (selected != null && selected.isRecurring()) {
+                engine.skip(selected, date);
+                eventList.getItems().remove(selected);
+                refreshAfterChange(selected, true);
+            }
+        });
+
+        delBtn.setOnAction(e -> {
+            Event selected = eventList.getSelectionModel().getSelectedItem();
+            if (selected != null) {
+                engine.remove(selected);
+                eventList.getItems().remove(selected);
+                refreshAfterChange(selected, selected.isRecurring());
+            }
+        });
+
+        Button closeBtn = new Button(bundle.getString("close"));
+        closeBtn.setOnAction(e -> dialog.close());
+
+        HBox btnBox = new HBox(10, addBtn, editBtn, delBtn, skipBtn, closeBtn);
+        btnBox.setAlignment(Pos.CENTER);
+
+        box.getChildren().addAll(dateLabel, eventList, titleField, noteField, catCombo, repeatCombo, timeBox, btnBox);
+        Scene scene = new Scene(box, 520, 480);
+        style(scene);
+        dialog.setScene(scene);
+        dialog.showAndWait();
+    }
+
+    private static String stylesheet() {
+        URL url = LiquidGlassCalendar.class.getResource("calendar.css");
+        if (url == null) System.err.println("calendar.css not found; starting without styles");
+        return url == null ? null : url.toExternalForm();
+    }
+
+    private static void style(Scene scene) {
+        if (STYLESHEET != null) scene.getStylesheets().add(STYLESHEET);
+    }
+
+    /** Both times or neither, and the end not before the start; warns the user otherwise. */
+    private boolean validTimes(LocalTime start, LocalTime end) {
+        if ((start == null) == (end == null) && (start == null || !end.isBefore(start))) return true;
+        Alert alert = new Alert(Alert.AlertType.WARNING, bundle.getString("invalid_time"));
+        alert.setHeaderText(null);
+        alert.showAndWait();
+        return false;
+    }
+
+    /** Asks before saving over other timed events; true when there are none or the user goes ahead. */
+    private boolean confirmConflicts(List<Event> conflicts) {
+        if (conflicts.isEmpty()) return true;
+        StringBuilder text = new StringBuilder();
+        for (Event c : conflicts) EventText.append(text, c, bundle, false).append('\n');
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION, String.format(bundle.getString("conflict_text"), text),
+                ButtonType.YES, ButtonType.NO);
+        alert.setTitle(bundle.getString("conflict_title"));
+        alert.setHeaderText(null);
+        return alert.showAndWait().orElse(ButtonType.NO) == ButtonType.YES;
+    }
+
+    private VBox createSidebarMenu() {
+        VBox sidebar = new VBox(18);
+        sidebar.setPadding(new Insets(24));
+        sidebar.getStyleClass().add("sidebar-glass");
+        sidebar.setPrefWidth(220);
+
+        Label settings = localized(new Label(), "settings");
+        settings.getStyleClass().add("section-title");
+        settings.setOnMouseClicked(e -> openSettingsDialog());
+        sidebar.getChildren().add(settings);
+
+        Label transferStatus = new Label();
+        transferStatus.setWrapText(true);
+        Button importBtn = localized(new Button(), "import_events");
+        importBtn.setOnAction(e -> importEvents(transferStatus));
+        Button exportBtn = localized(new Button(), "export_events");
+        exportBtn.setOnAction(e -> exportEvents(transferStatus));
+        sidebar.getChildren().addAll(importBtn, exportBtn, transferStatus);
+
+        MetricsOverlay metricsOverlay = new MetricsOverlay();
+        ToggleButton metricsToggle = localized(new ToggleButton(), "metrics");
+        metricsOverlay.visibleProperty().bind(metricsToggle.selectedProperty());
+        sidebar.getChildren().addAll(metricsToggle, metricsOverlay);
+
+        return sidebar;
+    }
+
+    private static FileChooser eventFileChooser() {
+        FileChooser chooser = new FileChooser();
+        chooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("iCalendar", "*.ics"),
+                new FileChooser.ExtensionFilter("CSV", "*.csv"));
+        return chooser;
+    }
+
+    private void importEvents(Label status) {
+        File file = eventFileChooser().showOpenDialog(mainScene.getWindow());
+        if (file == null) return;
+        // The engine is thread-safe, so batches go straight in from the import thread while the
+        // FX thread keeps rendering from the store's lock-free reads.
+        EventImporter importer = new EventImporter(batch -> engine.addAll(batch, false), (count, read, total, nanos) -> Platform.runLater(() -> status.setText(
+                String.format("%,d events · %d%% · %,.0f/s", count, total == 0 ? 100 : read * 100 / total, count * 1e9 / Math.max(1, nanos)))));
+        Thread.ofVirtual().name("calendar-import").start(() -> {
+            try {
+                EventImporter.Result result = importer.importFile(file.toPath());
+                Platform.runLater(() -> {
+                    updateCalendar();
+                    refreshSearch();
+                    status.setText(String.format("%,d imported, %,d skipped (%,.0f/s)",
+                            result.events(), result.skipped(), result.eventsPerSecond())
+                            + (result.unsupportedRules() == 0 ? ""
+                            : String.format("; %,d unsupported repeats imported once", result.unsupportedRules())));
+                });
+            } catch (IOException ex) {
+                Platform.runLater(() -> status.setText(ex.getMessage()));
+            }
+        });
+    }
+
+    private void exportEvents(Label status) {
+        File file = eventFileChooser().showSaveDialog(mainScene.getWindow());
+        if (file == null) return;
+        Thread.ofVirtual().name("calendar-export").start(() -> {
+            List<Event> snapshot = engine.all();
+            long start = System.nanoTime();
+            try (EventExporter exporter = new EventExporter(file.toPath())) {
+                long count = exporter.exportAll(snapshot, n -> Platform.runLater(() -> status.setText(String.format("%,d / %,d", n, snapshot.size()))));
+                double seconds = (System.nanoTime() - start) / 1e9;
+                Platform.runLater(() -> status.setText(String.format("%,d exported (%,.0f/s)", count, count / Math.max(seconds, 1e-9))));
+            } catch (IOException ex) {
+                Platform.runLater(() -> status.setText(ex.getMessage()));
+            }
+        });
+    }
+
+    private void openSettingsDialog() {
+        Stage dialog = new Stage();
+        dialog.initModality(Modality.APPLICATION_MODAL);
+        dialog.setTitle("Settings");
+
+        VBox box = new VBox(18);
+        box.setPadding(new Insets(20));
+        box.setAlignment(Pos.TOP_CENTER);
+        box.getStyleClass().add("glass-modal");
+        theme.applyTo(box);
+
+        CheckBox darkModeOption = new CheckBox("Enable Dark Mode");
+        darkModeOption.setSelected(darkModeToggle.isSelected());
+        darkModeOption.selectedProperty().addListener((obs, oldVal, newVal) -> {
+            darkModeToggle.setSelected(newVal);
+            applyTheme(newVal ? Theme.DARK : themePicker.getValue());
+        });
+
+        Label themeLabel = new Label("Select Theme:");
+        ComboBox<Theme> themeSelect = new ComboBox<>();
+        themeSelect.getItems().addAll(Theme.values());
+        themeSelect.setValue(themePicker.getValue());
+        themeSelect.setOnAction(e -> {
+            themePicker.setValue(themeSelect.getValue());
+            applyTheme(themeSelect.getValue());
+        });
+
+        Button closeBtn = new Button("Close");
+        closeBtn.setOnAction(e -> dialog.close());
+
+        box.getChildren().addAll(darkModeOption, themeLabel, themeSelect, closeBtn);
+
+        Scene scene = new Scene(box, 300, 200);
+        style(scene);
+        dialog.setScene(scene);
+        dialog.showAndWait();
+    }
+
+    /** Shows or hides the sidebar, building it on first use. */
+    private void toggleSidebar() {
+        if (sidebarMenu == null) {
+            sidebarMenu = createSidebarMenu();
+            glassPane.getChildren().add(sidebarMenu);
+        } else {
+            sidebarMenu.setVisible(!sidebarMenu.isVisible());
+        }
+    }
+
+    private void applySearch(Set<Event> hits) {
+        searchHits = hits;
+        updateCalendar();
+    }
+
+    /** Re-runs the active search so edited events are matched against the current query. */
+    private void refreshSearch() {
+        if (searchHits != null) searchEngine.submit(searchBar.getText());
+    }
+
+    private boolean matchesSearch(Event e) {
+        return searchHits == null || searchHits.contains(e);
+    }
+
+    /** Flips the theme pseudo-class on the root of every open window; stylesheets stay untouched. */
+    private void applyTheme(Theme theme) {
+        long started = THEME.start();
+        this.theme = theme;
+        theme.applyTo(mainScene.getRoot());
+        for (Window window : Window.getWindows()) {
+            if (window.getScene() != null) theme.applyTo(window.getScene().getRoot());
+        }
+        THEME.stop(started);
+    }
+
+    /** Adds a batch of due reminders to the reminder panel, which is built on first use. */
+    private void showReminders(List<ReminderBatcher.Notification> batch) {
+        // Reminders armed while loading can fall due before the window exists; start() shows them.
+        if (mainScene == null) {
+            earlyReminders.add(batch);
+            return;
+        }
+        if (reminderPanel == null) {
+            reminderPanel = new ReminderPanel(reminders, bundle, () -> {
+                stage.setIconified(false);
+                stage.toFront();
+            });
+            StackPane.setAlignment(reminderPanel, Pos.BOTTOM_RIGHT);
+            ((StackPane) mainScene.getRoot()).getChildren().add(reminderPanel);
+        }
+        reminderPanel.add(batch);
+    }
+
+    /** Quarter-hour picker; the 96 times are built once and only copied in when the list first opens. */
+    static class TimePicker extends ComboBox<LocalTime> {
+        private static final List<LocalTime> TIMES = new ArrayList<>(96);
+
+        static {
+            for (int h = 0; h < 24; h++)
+                for (int m = 0; m < 60; m += 15)
+                    TIMES.add(LocalTime.of(h, m));
+        }
+
+        TimePicker() {
+            setPromptText("HH:mm");
+            setEditable(false);
+            setOnShowing(e -> {
+                if (getItems().isEmpty()) getItems().setAll(TIMES);
+            });
+        }
+    }
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.calander;
+
+import com.example.calander.core.Counter;
+import com.example.calander.core.LatencyRecorder;
+import com.example.calander.core.Metrics;
+import com.example.calander.core.Probe;
+import javafx.animation.AnimationTimer;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+
+/**
+ * Sidebar panel with live render latency, FX pulse stalls and heap usage, read from the
+ * {@link Metrics} registry. Layout time is measured on every pulse through scene pulse listeners,
+ * which never request pulses themselves; the frame timer that detects stalls keeps the FX thread
+ * pulsing, so it only runs while the panel is shown.
+ */
+class MetricsOverlay extends VBox {
+    /** A frame gap beyond this counts as a stall, about three frames at 60 Hz. */
+    private static final long STALL_NANOS = 50_000_000;
+    private static final Probe LAYOUT = Metrics.probe("fx.layout");
+    private static final LatencyRecorder FRAMES = Metrics.probe("fx.frame").latency();
+    private static final Counter STALLS = Metrics.counter("fx.stalls");
+
+    private final Label text = new Label();
+    private final StringBuilder buffer = new StringBuilder(512);
+    private final Timeline refresh = new Timeline(new KeyFrame(Duration.millis(500), e -> update()));
+    private final AnimationTimer frames = new AnimationTimer() {
+        private long last;
+
+        @Override
+        public void handle(long now) {
+            if (last != 0) {
+                long gap = now - last;
+                FRAMES.record(gap);
+                if (gap > STALL_NANOS) STALLS.add(1);
+            }
+            last = now;
+        }
+
+        @Override
+        public void stop() {
+            super.stop();
+            last = 0;
+        }
+    };
+
+    MetricsOverlay() {
+        super(6);
+        text.getStyleClass().add("metrics-text");
+        Button reset = new Button("Reset");
+        reset.setOnAction(e -> {
+            Metrics.reset();
+            update();
+        });
+        getChildren().addAll(text, reset);
+        refresh.setCycleCount(Timeline.INDEFINITE);
+        setVisible(false);
+        managedProperty().bind(visibleProperty());
+        visibleProperty().addListener((obs, was, shown) -> {
+            if (shown) {
+                update();
+                refresh.play();
+                frames.start();
+            } else {
+                refresh.stop();
+                frames.stop();
+            }
+        });
+    }
+
+    /** Times the CSS and layout pass of every pulse of the scene, whether or not a panel is shown. */
+    static void watch(Scene scene) {
+        long[] started = new long[1];
+        scene.addPreLayoutPulseListener(() -> started[0] = LAYOUT.start());
+        scene.addPostLayoutPulseListener(() -> LAYOUT.stop(started[0]));
+    }
+
+    private void update() {
+        StringBuilder b = buffer;
+        b.setLength(0);
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        b.append(String.format("heap    %,d / %,d MB%n", used >> 20, runtime.maxMemory() >> 20));
+        b.append(String.format("stalls  %,d (frame p99 %s)%n", STALLS.total(), millis(FRAMES.percentile(99))));
+        b.append(String.format("%-16s %8s %8s %7s%n", "", "p50", "p99", "last"));
+        for (Probe probe : Metrics.probes()) {
+            LatencyRecorder latency = probe.latency();
+            if (latency.count() == 0 || probe.name.equals("fx.frame")) continue;
+            b.append(String.format("%-16s %8s %8s %,7d%n", probe.name,
+                    millis(latency.percentile(50)), millis(latency.percentile(99)), probe.items().last()));
+        }
+        for (Counter counter : Metrics.counters()) {
+            if (counter == STALLS) continue;
+            b.append(String.format("%-16s last %,d  total %,d%n", counter.name, counter.last(), counter.total()));
+        }
+        text.setText(b.toString());
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2fms", nanos / 1e6);
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.calander;
+
+import com.example.calander.core.Category;
+import com.example.calander.core.Counter;
+import com.example.calander.core.Event;
+import com.example.calander.core.EventStore;
+import com.example.calander.core.Metrics;
+import com.example.calander.core.MonthLayout;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Persistent 6x7 month grid. Cells are created once and rebound when the month or its events
+ * change, so navigation only swaps text, style classes and dots instead of rebuilding nodes.
+ */
+class MonthGrid extends GridPane {
+    private static final int ROWS = 6, COLS = 7;
+    private static final Counter NODES = Metrics.counter("render.nodes");
+    // Nodes created by the current show call; cells are only touched on the FX thread.
+    private static int created;
+
+    private final Label[] headers = new Label[COLS];
+    private final DayCell[] cells = new DayCell[ROWS * COLS];
+    private YearMonth yearMonth;
+    private int firstCell;
+
+    MonthGrid(String[] dayNames, Consumer<LocalDate> onDayClicked) {
+        setPadding(new Insets(20, 10, 10, 10));
+        setHgap(12);
+        setVgap(12);
+        for (int i = 0; i < COLS; i++) {
+            Label dayLabel = new Label(dayNames[i]);
+            dayLabel.getStyleClass().add("day-header");
+            dayLabel.setMinWidth(70);
+            dayLabel.setAlignment(Pos.CENTER);
+            headers[i] = dayLabel;
+            add(dayLabel, i, 0);
+        }
+        for (int i = 0; i < cells.length; i++) {
+            DayCell cell = new DayCell(i % COLS >= 5);
+            cell.setOnMouseClicked(e -> {
+                if (e.getButton() == MouseButton.PRIMARY && cell.day > 0) {
+                    onDayClicked.accept(yearMonth.atDay(cell.day));
+                }
+            });
+            cells[i] = cell;
+            add(cell, i % COLS, i / COLS + 1);
+        }
+    }
+
+    YearMonth getYearMonth() {
+        return yearMonth;
+    }
+
+    void setDayNames(String[] dayNames) {
+        for (int i = 0; i < COLS; i++) headers[i].setText(dayNames[i]);
+    }
+
+    /** Rebinds every cell to a prebuilt layout. */
+    void show(MonthLayout layout) {
+        this.yearMonth = layout.yearMonth;
+        this.firstCell = layout.firstCell;
+        created = 0;
+        for (int i = 0; i < cells.length; i++) {
+            int day = i - firstCell + 1;
+            if (day >= 1 && day <= layout.daysInMonth) {
+                DayCell cell = cells[i];
+                cell.dotCount = 0;
+                for (int d = 0, n = layout.dotCount(day); d < n; d++) cell.addDot(layout.dot(day, d));
+                cell.bind(day, day == layout.today);
+            } else {
+                cells[i].clear();
+            }
+        }
+        NODES.add(created);
+    }
+
+    /** Patches a single day of the displayed month, leaving every other cell untouched. */
+    void patchDay(int day, EventStore store, Predicate<Event> filter) {
+        if (yearMonth == null || day < 1 || day > yearMonth.lengthOfMonth()) return;
+        DayCell cell = cells[firstCell + day - 1];
+        cell.dotCount = 0;
+        store.forEachOnDay(yearMonth.getYear(), yearMonth.getMonthValue(), day, (d, category, reminder, e) -> {
+            if (filter.test(e)) cell.addDot(category);
+        });
+        cell.bind(day, cell.today);
+    }
+
+    private static final class DayCell extends VBox {
+        private final boolean weekend;
+        private final Label dayLabel = new Label();
+        private final HBox dots = new HBox(2);
+        private final List<Label> dotPool = new ArrayList<>();
+        private Category[] dotCategories = new Category[4];
+        private int dotCount;
+        // Category whose color the cell border shows, or null without events.
+        private Category border;
+        private int day;
+        private boolean today;
+
+        DayCell(boolean weekend) {
+            super(2);
+            this.weekend = weekend;
+            setAlignment(Pos.TOP_CENTER);
+            setMinSize(70, 55);
+            dayLabel.setMinSize(70, 30);
+            dayLabel.setAlignment(Pos.CENTER);
+            dots.setAlignment(Pos.CENTER);
+            getChildren().add(dayLabel);
+        }
+
+        void addDot(Category category) {
+            if (dotCount == dotCategories.length) dotCategories = Arrays.copyOf(dotCategories, dotCount * 2);
+            dotCategories[dotCount++] = category;
+        }
+
+        void bind(int day, boolean today) {
+            if (this.day != day) dayLabel.setText(String.valueOf(day));
+            this.day = day;
+            this.today = today;
+            setCellClass(today ? "calendar-cell-today" : weekend ? "calendar-cell-weekend" : null);
+            int count = dotCount;
+            while (dotPool.size() < count) {
+                Label dot = new Label("●");
+                dot.getStyleClass().add("event-dot");
+                dotPool.add(dot);
+                created++;
+            }
+            for (int i = 0; i < count; i++) Styles.setCategoryClass(dotPool.get(i), dotCategories[i]);
+            if (dots.getChildren().size() != count) dots.getChildren().setAll(dotPool.subList(0, count));
+            if (count > 0) {
+                if (getChildren().size() == 1) getChildren().add(dots);
+            } else {
+                if (getChildren().size() > 1) getChildren().remove(dots);
+            }
+            setBorderCategory(count > 0 ? dotCategories[0] : null);
+        }
+
+        void clear() {
+            if (day == 0) return;
+            day = 0;
+            today = false;
+            dayLabel.setText("");
+            getStyleClass().removeAll("calendar-cell", "calendar-cell-today", "calendar-cell-weekend");
+            if (getChildren().size() > 1) getChildren().remove(dots);
+            setBorderCategory(null);
+        }
+
+        private void setBorderCategory(Category category) {
+            Styles.setCategoryState(this, border, category);
+            border = category;
+        }
+
+        private void setCellClass(String modifier) {
+            List<String> classes = getStyleClass();
+            if (!classes.contains("calendar-cell")) classes.add("calendar-cell");
+            if (!"calendar-cell-today".equals(modifier)) classes.remove("calendar-cell-today");
+            if (!"calendar-cell-weekend".equals(modifier)) classes.remove("calendar-cell-weekend");
+            if (modifier != null && !classes.contains(modifier)) classes.add(modifier);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.calander;
+
+import com.example.calander.core.Event;
+import com.example.calander.core.ReminderBatcher;
+import javafx.geometry.Pos;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+/**
+ * Non-modal panel of open reminders, filled a batch at a time by {@link ReminderBatcher}. Rows
+ * live in a virtual list, so a burst of hundreds of reminders costs one list change and a few
+ * cells. Escalated reminders move to the top; the panel hides once every reminder is dismissed
+ * or snoozed.
+ */
+class ReminderPanel extends VBox {
+    private static final Duration SNOOZE = Duration.ofMinutes(5);
+
+    private final ReminderBatcher batcher;
+    private final Runnable onEscalated;
+    private ResourceBundle bundle;
+    private final Label header = new Label();
+    private final ListView<ReminderBatcher.Notification> list = new ListView<>();
+    private final Button snoozeAll = new Button();
+    private final Button dismissAll = new Button();
+
+    /** @param onEscalated called when a batch holds an escalated reminder, e.g. to raise the window */
+    ReminderPanel(ReminderBatcher batcher, ResourceBundle bundle, Runnable onEscalated) {
+        super(8);
+        this.batcher = batcher;
+        this.onEscalated = onEscalated;
+        getStyleClass().add("reminder-panel");
+        header.getStyleClass().add("section-title");
+        list.setFixedCellSize(34);
+        list.setPrefHeight(34 * 5 + 2);
+        list.setCellFactory(l -> new ReminderRow());
+        snoozeAll.setOnAction(e -> closeAll(true));
+        dismissAll.setOnAction(e -> closeAll(false));
+        HBox actions = new HBox(8, snoozeAll, dismissAll);
+        actions.setAlignment(Pos.CENTER_RIGHT);
+        getChildren().addAll(header, list, actions);
+        setMaxSize(420, USE_PREF_SIZE);
+        setBundle(bundle);
+        hide();
+    }
+
+    /** Shows a delivered batch; a reminder already listed is replaced by its newer notification. */
+    void add(List<ReminderBatcher.Notification> batch) {
+        Set<Event> incoming = new HashSet<>();
+        boolean escalated = false;
+        for (ReminderBatcher.Notification n : batch) {
+            incoming.add(n.event());
+            escalated |= n.escalated();
+        }
+        var items = list.getItems();
+        items.removeIf(n -> incoming.contains(n.event()));
+        for (ReminderBatcher.Notification n : batch) {
+            if (n.escalated()) items.add(0, n);
+        }
+        for (ReminderBatcher.Notification n : batch) {
+            if (!n.escalated()) items.add(n);
+        }
+        updateHeader();
+        setVisible(true);
+        setManaged(true);
+        if (escalated) onEscalated.run();
+    }
+
+    void setBundle(ResourceBundle bundle) {
+        this.bundle = bundle;
+        snoozeAll.setText(bundle.getString("snooze_all"));
+        dismissAll.setText(bundle.getString("dismiss_all"));
+        updateHeader();
+        list.refresh();
+    }
+
+    private void updateHeader() {
+        header.setText(String.format(bundle.getString("reminders_open"), list.getItems().size()));
+    }
+
+    private void close(ReminderBatcher.Notification n, boolean snooze) {
+        if (snooze) batcher.snooze(n.event(), SNOOZE);
+        else batcher.dismiss(n.event());
+        list.getItems().remove(n);
+        if (list.getItems().isEmpty()) hide();
+        else updateHeader();
+    }
+
+    private void closeAll(boolean snooze) {
+        for (ReminderBatcher.Notification n : list.getItems()) {
+            if (snooze) batcher.snooze(n.event(), SNOOZE);
+            else batcher.dismiss(n.event());
+        }
+        list.getItems().clear();
+        hide();
+    }
+
+    private void hide() {
+        setVisible(false);
+        setManaged(false);
+    }
+
+    private final class ReminderRow extends ListCell<ReminderBatcher.Notification> {
+        private final StringBuilder text = new StringBuilder(96);
+        private final Label label = new Label();
+        private final Button snooze = new Button();
+        private final Button dismiss = new Button();
+        private final HBox row = new HBox(6, label, snooze, dismiss);
+
+        ReminderRow() {
+            row.setAlignment(Pos.CENTER_LEFT);
+            HBox.setHgrow(label, Priority.ALWAYS);
+            label.setMaxWidth(Double.MAX_VALUE);
+            snooze.setOnAction(e -> close(getItem(), true));
+            dismiss.setOnAction(e -> close(getItem(), false));
+        }
+
+        @Override
+        protected void updateItem(ReminderBatcher.Notification n, boolean empty) {
+            super.updateItem(n, empty);
+            getStyleClass().remove("reminder-escalated");
+            if (empty || n == null) {
+                setGraphic(null);
+                return;
+            }
+            if (n.escalated()) getStyleClass().add("reminder-escalated");
+            text.setLength(0);
+            label.setText(EventText.append(text, n.event(), bundle, false).toString());
+            snooze.setText(bundle.getString("snooze"));
+            dismiss.setText(bundle.getString("dismiss"));
+            setGraphic(row);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.calander;
+
+import com.example.calander.core.Event;
+import com.example.calander.core.SortedEvents;
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.VBox;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Every event matching the current search, across all months, in date order. Results are
+ * sorted off the FX thread and exposed to the list as a virtual list over the sorted array, so
+ * a million rows cost one array and the list only ever sees the visible ones. Row text is
+ * formatted a page at a time and kept in a small LRU of pages, so scrolling back and forth
+ * formats nothing twice.
+ */
+class ResultsView extends VBox {
+    private static final int PAGE_SIZE = 256;
+    private static final int CACHED_PAGES = 32;
+
+    private ResourceBundle bundle;
+    private final Label summary = new Label();
+    private final ListView<Event> list = new ListView<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final StringBuilder text = new StringBuilder(128);
+    private final Map<Integer, String[]> pages = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, String[]> eldest) {
+            return size() > CACHED_PAGES;
+        }
+    };
+    private SortedEvents results = SortedEvents.empty();
+
+    ResultsView(ResourceBundle bundle, Consumer<Event> onEventClicked) {
+        super(8);
+        this.bundle = bundle;
+        list.setPrefHeight(480);
+        list.setFixedCellSize(26);
+        list.setCellFactory(l -> new ResultRow());
+        list.setOnMouseClicked(e -> {
+            Event selected = list.getSelectionModel().getSelectedItem();
+            if (e.getButton() == MouseButton.PRIMARY && e.getClickCount() == 2 && selected != null) onEventClicked.accept(selected);
+        });
+        getChildren().addAll(summary, list);
+    }
+
+    /**
+     * Sorts a snapshot of the events on a worker thread and shows them when done; a newer call
+     * supersedes one still sorting.
+     */
+    void show(Collection<Event> events) {
+        long gen = generation.incrementAndGet();
+        Thread worker = new Thread(() -> {
+            SortedEvents sorted = SortedEvents.byDate(events);
+            Platform.runLater(() -> {
+                if (gen == generation.get()) bind(sorted);
+            });
+        }, "calendar-results");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /** Re-renders the summary and visible rows in another language; cached page text is dropped. */
+    void setBundle(ResourceBundle bundle) {
+        this.bundle = bundle;
+        pages.clear();
+        summary.setText(String.format(bundle.getString("events_found"), results.size()));
+        list.refresh();
+    }
+
+    private void bind(SortedEvents sorted) {
+        results = sorted;
+        pages.clear();
+        summary.setText(String.format(bundle.getString("events_found"), sorted.size()));
+        list.setItems(new SortedList(sorted));
+        int today = sorted.indexOf(LocalDate.now());
+        if (today < sorted.size()) list.scrollTo(today);
+    }
+
+    private String rowText(int index) {
+        int page = index / PAGE_SIZE;
+        String[] rows = pages.get(page);
+        if (rows == null) {
+            int first = page * PAGE_SIZE;
+            rows = new String[Math.min(PAGE_SIZE, results.size() - first)];
+            for (int i = 0; i < rows.length; i++) {
+                text.setLength(0);
+                rows[i] = EventText.append(text, results.get(first + i), bundle, true).toString();
+            }
+            pages.put(page, rows);
+        }
+        return rows[index % PAGE_SIZE];
+    }
+
+    /** Read-only list view over sorted results; nothing is copied into the list. */
+    private static final class SortedList extends ObservableListBase<Event> {
+        private final SortedEvents events;
+
+        SortedList(SortedEvents events) {
+            this.events = events;
+        }
+
+        @Override
+        public Event get(int index) {
+            return events.get(index);
+        }
+
+        @Override
+        public int size() {
+            return events.size();
+        }
+    }
+
+    private final class ResultRow extends ListCell<Event> {
+        @Override
+        protected void updateItem(Event e, boolean empty) {
+            super.updateItem(e, empty);
+            setText(empty || e == null ? null : rowText(getIndex()));
+        }
+    }
+}
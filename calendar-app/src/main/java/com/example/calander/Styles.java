@@ -0,0 +1,44 @@
+package com.example.calander;
+
+import com.example.calander.core.Category;
+import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
+
+/**
+ * Per-category styling without style strings. Nodes carry a {@code category-*} style class or
+ * pseudo-class, and calendar.css maps each to the category's looked-up color, so rebinding a
+ * month only changes a class when a node's category actually changes.
+ */
+final class Styles {
+    private static final String PREFIX = "category-";
+    private static final String[] CLASSES = new String[Category.values().length];
+    private static final PseudoClass[] STATES = new PseudoClass[Category.values().length];
+
+    static {
+        for (Category c : Category.values()) {
+            CLASSES[c.ordinal()] = PREFIX + c.bundleKey;
+            STATES[c.ordinal()] = PseudoClass.getPseudoClass(PREFIX + c.bundleKey);
+        }
+    }
+
+    private Styles() {
+    }
+
+    /** Gives the node the category's style class, kept last in its class list. */
+    static void setCategoryClass(Node node, Category category) {
+        ObservableList<String> classes = node.getStyleClass();
+        String wanted = CLASSES[category.ordinal()];
+        int last = classes.size() - 1;
+        if (last >= 0 && classes.get(last).equals(wanted)) return;
+        if (last >= 0 && classes.get(last).startsWith(PREFIX)) classes.set(last, wanted);
+        else classes.add(wanted);
+    }
+
+    /** Moves the node's category pseudo-class from {@code previous} to {@code next}; either may be null. */
+    static void setCategoryState(Node node, Category previous, Category next) {
+        if (previous == next) return;
+        if (previous != null) node.pseudoClassStateChanged(STATES[previous.ordinal()], false);
+        if (next != null) node.pseudoClassStateChanged(STATES[next.ordinal()], true);
+    }
+}
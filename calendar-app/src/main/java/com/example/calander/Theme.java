@@ -0,0 +1,31 @@
+package com.example.calander;
+
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
+
+/**
+ * Color themes. calendar.css defines every color as a looked-up color on {@code .root} and
+ * redefines them under a {@code :theme-*} pseudo-class, so switching theme flips one
+ * pseudo-class state on the scene root and never touches stylesheets or inline styles.
+ */
+enum Theme {
+    LIGHT("Light"), DARK("Dark"), BLUE("Blue"), GREEN("Green");
+
+    private final String label;
+    private final PseudoClass state;
+
+    Theme(String label) {
+        this.label = label;
+        this.state = PseudoClass.getPseudoClass("theme-" + name().toLowerCase());
+    }
+
+    /** Turns this theme's pseudo-class on and every other theme's off. */
+    void applyTo(Node root) {
+        for (Theme theme : values()) root.pseudoClassStateChanged(theme.state, theme == this);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
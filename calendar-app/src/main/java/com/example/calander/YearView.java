@@ -0,0 +1,134 @@
+package com.example.calander;
+
+import com.example.calander.core.Category;
+import com.example.calander.core.YearSummary;
+import javafx.css.CssMetaData;
+import javafx.css.SimpleStyleableObjectProperty;
+import javafx.css.StyleConverter;
+import javafx.css.Styleable;
+import javafx.css.StyleableObjectProperty;
+import javafx.css.StyleableProperty;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseButton;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Year heatmap: one row per month, one square per day, shaded by occurrence count and colored by
+ * category. Painted on a single canvas straight from a {@link YearSummary}, so a repaint reads
+ * two arrays and creates no nodes. Label and empty-day colors come from calendar.css through
+ * {@code -cal-label-fill} and {@code -cal-empty-fill}, so the heatmap follows the theme.
+ */
+class YearView extends Canvas {
+    private static final double LABEL_WIDTH = 48, CELL = 24, GAP = 3, TOP = 22;
+    private static final Color MIXED = Color.web("#607D8B");
+    private static final Color[] CATEGORY_COLORS = new Color[Category.values().length];
+
+    static {
+        for (Category c : Category.values()) CATEGORY_COLORS[c.ordinal()] = Color.web(c.color);
+    }
+
+    private static final CssMetaData<YearView, Paint> LABEL_FILL = paintMetaData("-cal-label-fill", Color.web("#333"), v -> v.labelFill);
+    private static final CssMetaData<YearView, Paint> EMPTY_FILL = paintMetaData("-cal-empty-fill", Color.web("#000000", 0.06), v -> v.emptyFill);
+    private static final List<CssMetaData<? extends Styleable, ?>> CSS_META_DATA;
+
+    static {
+        List<CssMetaData<? extends Styleable, ?>> metaData = new ArrayList<>(Node.getClassCssMetaData());
+        metaData.add(LABEL_FILL);
+        metaData.add(EMPTY_FILL);
+        CSS_META_DATA = Collections.unmodifiableList(metaData);
+    }
+
+    private final StyleableObjectProperty<Paint> labelFill = repaintingProperty(LABEL_FILL, "labelFill");
+    private final StyleableObjectProperty<Paint> emptyFill = repaintingProperty(EMPTY_FILL, "emptyFill");
+    private YearSummary summary;
+
+    YearView(Consumer<LocalDate> onDayClicked) {
+        super(LABEL_WIDTH + 31 * (CELL + GAP), TOP + 12 * (CELL + GAP));
+        getStyleClass().add("year-view");
+        setOnMouseClicked(e -> {
+            if (e.getButton() != MouseButton.PRIMARY || summary == null) return;
+            int month = (int) ((e.getY() - TOP) / (CELL + GAP)) + 1;
+            int day = (int) ((e.getX() - LABEL_WIDTH) / (CELL + GAP)) + 1;
+            if (e.getY() < TOP || e.getX() < LABEL_WIDTH || month > 12) return;
+            if (day <= YearMonth.of(summary.year(), month).lengthOfMonth()) {
+                onDayClicked.accept(LocalDate.of(summary.year(), month, day));
+            }
+        });
+    }
+
+    void show(YearSummary summary) {
+        this.summary = summary;
+        GraphicsContext g = getGraphicsContext2D();
+        g.clearRect(0, 0, getWidth(), getHeight());
+        g.setFont(Font.font(11));
+        g.setFill(labelFill.get());
+        g.setTextAlign(TextAlignment.CENTER);
+        for (int day = 1; day <= 31; day += 5) {
+            g.fillText(String.valueOf(day), LABEL_WIDTH + (day - 1) * (CELL + GAP) + CELL / 2, TOP - 8);
+        }
+        double max = Math.max(1, summary.maxCount());
+        int dayOfYear = 1;
+        for (int month = 1; month <= 12; month++) {
+            double y = TOP + (month - 1) * (CELL + GAP);
+            g.setFill(labelFill.get());
+            g.setTextAlign(TextAlignment.LEFT);
+            g.fillText(Month.of(month).getDisplayName(TextStyle.SHORT, Locale.getDefault()), 0, y + CELL * 0.7);
+            int length = YearMonth.of(summary.year(), month).lengthOfMonth();
+            for (int day = 1; day <= length; day++, dayOfYear++) {
+                double x = LABEL_WIDTH + (day - 1) * (CELL + GAP);
+                int count = summary.count(dayOfYear);
+                g.setFill(count == 0 ? emptyFill.get() : shade(summary.categoryMask(dayOfYear), Math.sqrt(count / max)));
+                g.fillRoundRect(x, y, CELL, CELL, 5, 5);
+            }
+        }
+    }
+
+    @Override
+    public List<CssMetaData<? extends Styleable, ?>> getCssMetaData() {
+        return CSS_META_DATA;
+    }
+
+    private StyleableObjectProperty<Paint> repaintingProperty(CssMetaData<YearView, Paint> metaData, String name) {
+        return new SimpleStyleableObjectProperty<>(metaData, this, name, metaData.getInitialValue(this)) {
+            @Override
+            protected void invalidated() {
+                if (summary != null) show(summary);
+            }
+        };
+    }
+
+    private static CssMetaData<YearView, Paint> paintMetaData(String property, Paint initial, Function<YearView, StyleableObjectProperty<Paint>> field) {
+        return new CssMetaData<>(property, StyleConverter.getPaintConverter(), initial) {
+            @Override
+            public boolean isSettable(YearView view) {
+                return !field.apply(view).isBound();
+            }
+
+            @Override
+            public StyleableProperty<Paint> getStyleableProperty(YearView view) {
+                return field.apply(view);
+            }
+        };
+    }
+
+    private static Color shade(int mask, double intensity) {
+        Color base = Integer.bitCount(mask) == 1 ? CATEGORY_COLORS[Integer.numberOfTrailingZeros(mask)] : MIXED;
+        return base.deriveColor(0, 1, 1, 0.25 + 0.75 * intensity);
+    }
+}
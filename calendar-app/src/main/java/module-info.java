@@ -0,0 +1,9 @@
+module com.example.calander {
+    requires javafx.controls;
+    requires javafx.fxml;
+
+    requires com.example.calander.core;
+
+    opens com.example.calander to javafx.fxml;
+    exports com.example.calander;
+}
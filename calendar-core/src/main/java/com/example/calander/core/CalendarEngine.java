@@ -0,0 +1,243 @@
+package com.example.calander.core;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Headless calendar: an {@link EventStore} with its search index, journal and reminders kept in
+ * step on every change. The JavaFX app is one client; a server can run an in-memory engine per
+ * user with neither journal nor reminders. Thread-safe: mutations serialize on one lock, which
+ * keeps the store, index, reminders and journal in the same order, while reads go straight to
+ * the lock-free store. A {@link ReentrantLock} rather than {@code synchronized} keeps virtual
+ * threads writing from importers or sync unpinned while they wait.
+ */
+public final class CalendarEngine implements AutoCloseable {
+    public enum Change { ADDED, UPDATED, REMOVED }
+
+    /** Observes every change, on the writing thread and while the engine's write lock is held. */
+    @FunctionalInterface
+    public interface Listener {
+        void changed(Change change, Event e);
+    }
+
+    private final EventStore store = new EventStore();
+    private final SearchIndex searchIndex = new SearchIndex();
+    private final MonthLayoutCache layouts = new MonthLayoutCache(store, 24);
+    private final EventJournal journal;
+    private final ReminderScheduler reminders;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile SnapshotPublisher publisher;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /** In-memory engine without persistence or reminders. */
+    public CalendarEngine() {
+        this(null, null);
+    }
+
+    /**
+     * @param journal   persists every change, or null to keep events in memory only
+     * @param reminders arms the reminder of every event, or null to skip reminders
+     */
+    public CalendarEngine(EventJournal journal, ReminderScheduler reminders) {
+        this.journal = journal;
+        this.reminders = reminders;
+    }
+
+    /** Registers a listener for changes made after this call; loading the journal is not reported. */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /** Runs {@code action} under the write lock, so it sees no change half made and its own changes are atomic. */
+    void locked(Runnable action) {
+        writeLock.lock();
+        try {
+            action.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Publishes a shared snapshot for other processes after every change, starting with the next load. */
+    public void publishTo(SnapshotPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * Loads the journal into the store and arms reminders. The search index is filled on a
+     * daemon thread so loading returns as soon as the store is usable. Each event is indexed
+     * under the write lock and only while it is still stored, so an edit or removal made in the
+     * meantime is not undone.
+     */
+    public Collection<Event> load() throws IOException {
+        if (journal == null) return List.of();
+        Collection<Event> stored = journal.load();
+        store.addAll(stored);
+        if (reminders != null) for (Event e : stored) reminders.schedule(e);
+        Thread indexer = new Thread(() -> {
+            for (Event e : stored) {
+                writeLock.lock();
+                try {
+                    if (store.contains(e)) searchIndex.add(e);
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+        }, "calendar-search-indexer");
+        indexer.setDaemon(true);
+        indexer.start();
+        changed();
+        return stored;
+    }
+
+    public void add(Event e) {
+        writeLock.lock();
+        try {
+            store.add(e);
+            searchIndex.add(e);
+            if (reminders != null) reminders.schedule(e);
+            if (journal != null) journal.recordAdd(e);
+            fire(Change.ADDED, e);
+            changed();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds a batch of events.
+     *
+     * @param indexed true if the caller already added the batch to {@link #searchIndex()}, e.g.
+     *                on an import thread, so only the store, reminders and journal are updated here
+     */
+    public void addAll(Collection<Event> batch, boolean indexed) {
+        writeLock.lock();
+        try {
+            store.addAll(batch);
+            if (!indexed) searchIndex.addAll(batch);
+            for (Event e : batch) {
+                if (reminders != null) reminders.schedule(e);
+                if (journal != null) journal.recordAdd(e);
+                fire(Change.ADDED, e);
+            }
+            changed();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Edits an event in place and re-indexes it. {@code change} runs under the write lock, so it
+     * never interleaves with another edit, e.g. a remote version applied by {@link SyncClient},
+     * and the event's state before the change is read there too.
+     *
+     * @return false, without running {@code change}, if the event is no longer stored, e.g. after
+     *         a remote deletion while a dialog had it open
+     */
+    public boolean edit(Event e, Consumer<Event> change) {
+        writeLock.lock();
+        try {
+            if (!store.contains(e)) return false;
+            boolean wasRecurring = e.isRecurring();
+            change.accept(e);
+            store.update(e, wasRecurring);
+            searchIndex.update(e);
+            if (reminders != null) reminders.schedule(e);
+            if (journal != null) journal.recordUpdate(e);
+            fire(Change.UPDATED, e);
+            changed();
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Removes one occurrence of a recurring series by adding an exception date; false if it is not a stored series. */
+    public boolean skip(Event e, LocalDate date) {
+        writeLock.lock();
+        try {
+            return e.isRecurring() && edit(e, series -> series.recurrence = series.recurrence.withExDate(date));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Event e) {
+        writeLock.lock();
+        try {
+            store.remove(e);
+            searchIndex.remove(e);
+            if (reminders != null) reminders.cancel(e);
+            if (journal != null) journal.recordDelete(e);
+            fire(Change.REMOVED, e);
+            changed();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public List<Event> getEvents(int year, int month, int day) {
+        return store.getEvents(year, month, day);
+    }
+
+    /**
+     * The month's grid layout. Without a filter it comes from an LRU cache that is kept current
+     * with the store and builds neighbouring months ahead; filtered layouts are built each time.
+     *
+     * @param filter events to show a dot for, or null for every event
+     */
+    public MonthLayout layout(YearMonth yearMonth, Predicate<Event> filter) {
+        return filter == null ? layouts.get(yearMonth) : MonthLayout.build(yearMonth, store, filter);
+    }
+
+    /** Per-day occurrence counts of the year, kept current as events change. */
+    public YearSummary yearSummary(int year) {
+        return store.yearSummary(year);
+    }
+
+    /** Returns a new list holding every stored event and series. */
+    public List<Event> all() {
+        return store.all();
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    private void fire(Change change, Event e) {
+        for (Listener listener : listeners) listener.changed(change, e);
+    }
+
+    private void changed() {
+        if (publisher != null) publisher.changed();
+    }
+
+    public EventStore store() {
+        return store;
+    }
+
+    /** The search index; safe to query and fill from any thread. */
+    public SearchIndex searchIndex() {
+        return searchIndex;
+    }
+
+    /** Stops the reminder, snapshot and layout threads and flushes and closes the journal. */
+    @Override
+    public void close() throws IOException {
+        if (reminders != null) reminders.shutdown();
+        if (publisher != null) publisher.shutdown();
+        layouts.shutdown();
+        if (journal != null) journal.close();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.calander.core;
+
+import java.util.Locale;
+
+/**
+ * Event category. Colors are resolved once per constant instead of switching on a string for
+ * every rendered dot, and the ordinal doubles as a compact per-event code.
+ */
+public enum Category {
+    WORK("Work", "work", "#2196F3"),
+    STUDY("Study", "study", "#4CAF50"),
+    HEALTH("Health", "health", "#FF9800"),
+    PERSONAL("Personal", "personal", "#9C27B0"),
+    OTHER("Other", "other", "#9E9E9E");
+
+    private static final Category[] VALUES = values();
+
+    public final String label;
+    public final String bundleKey;
+    public final String color;
+
+    Category(String label, String bundleKey, String color) {
+        this.label = label;
+        this.bundleKey = bundleKey;
+        this.color = color;
+    }
+
+    public static Category of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /** Maps a stored or imported label (case-insensitive) to its category; unknown labels are {@link #OTHER}. */
+    public static Category parse(String label) {
+        if (label != null) {
+            String key = label.trim().toLowerCase(Locale.ROOT);
+            for (Category c : VALUES) {
+                if (c.bundleKey.equals(key)) return c;
+            }
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.calander.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Monotonic counter that also remembers the last amount added, e.g. events scanned per render. */
+public final class Counter {
+    public final String name;
+    private final LongAdder total = new LongAdder();
+    private volatile long last;
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public void add(long amount) {
+        total.add(amount);
+        last = amount;
+    }
+
+    public long total() {
+        return total.sum();
+    }
+
+    public long last() {
+        return last;
+    }
+
+    public void reset() {
+        total.reset();
+        last = 0;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.calander.core;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * A calendar entry. The date is packed into one int, the category is an enum, the reminder is
+ * stored as minute of day and title/note strings are interned, so repeated values across
+ * imported calendars share a single instance.
+ */
+public class Event {
+    private static final short NO_REMINDER = -1;
+    private static final int ALL_DAY = -1;
+
+    // Volatile so edits made before EventStore.update are visible to readers on other threads.
+    volatile long id;
+    volatile String title, note;
+    volatile Category category;
+    /** Recurrence of the series starting at this event's date, or null for a one-off event. */
+    volatile RecurrenceRule recurrence;
+    private final int date;
+    private volatile short reminder;
+    // Start and end minute of day packed as start << 16 | end, so readers never see half an edit.
+    private volatile int times = ALL_DAY;
+
+    public Event(String title, String note, Category category, int year, int month, int day, RecurrenceRule recurrence, LocalTime reminderTime) {
+        setText(title, note);
+        this.category = category;
+        this.date = pack(year, month, day);
+        this.recurrence = recurrence;
+        setReminderTime(reminderTime);
+    }
+
+    public static int pack(int year, int month, int day) {
+        return (year << 9) | (month << 5) | day;
+    }
+
+    public int year() {
+        return date >> 9;
+    }
+
+    public int month() {
+        return (date >> 5) & 0xF;
+    }
+
+    public int day() {
+        return date & 0x1F;
+    }
+
+    public LocalDate date() {
+        return LocalDate.of(year(), month(), day());
+    }
+
+    public boolean isRecurring() {
+        return recurrence != null;
+    }
+
+    /** Year, month and day packed as {@code year << 9 | month << 5 | day}; orders like the date. */
+    public int packedDate() {
+        return date;
+    }
+
+    public long id() {
+        return id;
+    }
+
+    public String title() {
+        return title;
+    }
+
+    public String note() {
+        return note;
+    }
+
+    public Category category() {
+        return category;
+    }
+
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+
+    /** Recurrence of the series starting at this event's date, or null for a one-off event. */
+    public RecurrenceRule recurrence() {
+        return recurrence;
+    }
+
+    public void setRecurrence(RecurrenceRule recurrence) {
+        this.recurrence = recurrence;
+    }
+
+    public void setText(String title, String note) {
+        this.title = title == null ? "" : title.intern();
+        this.note = note == null ? "" : note.intern();
+    }
+
+    /** Minute of day of the reminder, or -1 without one. */
+    public int reminderMinute() {
+        return reminder;
+    }
+
+    public LocalTime reminderTime() {
+        return reminder == NO_REMINDER ? null : LocalTime.of(reminder / 60, reminder % 60);
+    }
+
+    public void setReminderTime(LocalTime time) {
+        this.reminder = time == null ? NO_REMINDER : (short) (time.getHour() * 60 + time.getMinute());
+    }
+
+    /** Start minute of day, or -1 for an all-day event. */
+    public int startMinute() {
+        return times < 0 ? -1 : times >>> 16;
+    }
+
+    /** End minute of day, exclusive and at most 1440, or -1 for an all-day event. */
+    public int endMinute() {
+        return times < 0 ? -1 : times & 0xFFFF;
+    }
+
+    public boolean isAllDay() {
+        return times < 0;
+    }
+
+    public LocalTime startTime() {
+        return times < 0 ? null : LocalTime.of(startMinute() / 60, startMinute() % 60);
+    }
+
+    /** End time; an event running to midnight ends at {@link LocalTime#MAX}. */
+    public LocalTime endTime() {
+        int end = endMinute();
+        return end < 0 ? null : end == 1440 ? LocalTime.MAX : LocalTime.of(end / 60, end % 60);
+    }
+
+    /** Sets the time span within the day, or makes the event all-day when both are null. */
+    public void setTimes(LocalTime start, LocalTime end) {
+        if (start == null && end == null) {
+            times = ALL_DAY;
+            return;
+        }
+        if (start == null || end == null) throw new IllegalArgumentException("Event time needs both start and end");
+        int from = start.getHour() * 60 + start.getMinute();
+        int to = end == LocalTime.MAX ? 1440 : end.getHour() * 60 + end.getMinute();
+        setMinutes(from, to);
+    }
+
+    /** Sets the span as minutes of day, {@code end} exclusive; -1 for both makes the event all-day. */
+    public void setMinutes(int start, int end) {
+        if (start == -1 && end == -1) {
+            times = ALL_DAY;
+            return;
+        }
+        if (start < 0 || end > 1440 || end < start) throw new IllegalArgumentException("Invalid event time " + start + "-" + end);
+        times = start << 16 | end;
+    }
+
+    /** True if both events have times and their spans overlap; touching spans do not. */
+    public boolean overlaps(Event other) {
+        int t = times, o = other.times;
+        return t >= 0 && o >= 0 && (t >>> 16) < (o & 0xFFFF) && (o >>> 16) < (t & 0xFFFF);
+    }
+
+    public String getColor() {
+        return category.color;
+    }
+}
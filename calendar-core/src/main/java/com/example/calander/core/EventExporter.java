@@ -0,0 +1,220 @@
+package com.example.calander.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.function.LongConsumer;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * Streams events to an iCalendar or CSV file. Each event is formatted into a reusable line
+ * buffer and encoded straight into a fixed-size byte buffer that is drained to the file
+ * channel, so the document is never held in memory as a whole.
+ */
+public class EventExporter implements AutoCloseable {
+    private static final int PROGRESS_INTERVAL = 5000;
+
+    private final EventImporter.Format format;
+    private final FileChannel channel;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private final ByteBuffer out = ByteBuffer.allocateDirect(1 << 16);
+    private final StringBuilder line = new StringBuilder(256);
+    private long written;
+
+    public EventExporter(Path file) throws IOException {
+        this.format = EventImporter.formatOf(file);
+        this.channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING);
+        if (format == EventImporter.Format.CSV) {
+            line.append(String.join(",", EventImporter.CSV_HEADER)).append("\r\n");
+        } else {
+            line.append("BEGIN:VCALENDAR\r\nVERSION:2.0\r\nPRODID:-//Liquid Glass Calendar//EN\r\n");
+        }
+        flushLine();
+    }
+
+    /** Writes every event and returns how many were written. */
+    public long exportAll(Iterable<Event> events, LongConsumer progress) throws IOException {
+        for (Event e : events) {
+            write(e);
+            if (written % PROGRESS_INTERVAL == 0) progress.accept(written);
+        }
+        progress.accept(written);
+        return written;
+    }
+
+    public void write(Event e) throws IOException {
+        if (format == EventImporter.Format.CSV) {
+            csv(e.title).append(',');
+            csv(e.note).append(',');
+            csv(e.category.label).append(',');
+            date(e).append(',');
+            if (e.isRecurring()) csv(e.recurrence.toString());
+            line.append(',');
+            if (e.reminderTime() != null) line.append(e.reminderTime());
+            if (!e.isAllDay()) {
+                line.append(',');
+                time(e.startMinute()).append(',');
+                time(e.endMinute());
+            }
+            line.append("\r\n");
+        } else {
+            line.append("BEGIN:VEVENT\r\nUID:").append(e.id).append("@liquid-glass-calendar\r\n");
+            line.append("DTSTART");
+            int reminder = e.reminderMinute(), start = e.startMinute();
+            if (start >= 0) {
+                line.append(':');
+                dateTime(e, start).append("\r\nDTEND:");
+                dateTime(e, e.endMinute());
+            } else if (reminder < 0) {
+                line.append(";VALUE=DATE:");
+                compactDate(e);
+            } else {
+                line.append(':');
+                compactDate(e).append('T');
+                pad2(reminder / 60);
+                pad2(reminder % 60).append("00");
+            }
+            line.append("\r\n");
+            ics("SUMMARY", e.title);
+            if (e.note != null && !e.note.isEmpty()) ics("DESCRIPTION", e.note);
+            ics("CATEGORIES", e.category.label);
+            if (e.isRecurring()) {
+                line.append("RRULE:").append(e.recurrence.toRRule(e.date())).append("\r\n");
+                for (LocalDate exDate : e.recurrence.exDates()) {
+                    line.append("EXDATE;VALUE=DATE:").append(exDate.getYear());
+                    pad2(exDate.getMonthValue());
+                    pad2(exDate.getDayOfMonth()).append("\r\n");
+                }
+            }
+            if (reminder >= 0) {
+                // Triggers are relative to DTSTART, which is the reminder time itself for all-day events.
+                int offset = start >= 0 ? reminder - start : 0;
+                line.append("BEGIN:VALARM\r\nACTION:DISPLAY\r\nTRIGGER:").append(offset < 0 ? "-PT" : "PT")
+                        .append(Math.abs(offset)).append("M\r\nEND:VALARM\r\n");
+            }
+            line.append("END:VEVENT\r\n");
+        }
+        flushLine();
+        written++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (format == EventImporter.Format.ICS) {
+                line.append("END:VCALENDAR\r\n");
+                flushLine();
+            }
+            out.flip();
+            while (out.hasRemaining()) channel.write(out);
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flushLine() throws IOException {
+        CharBuffer chars = CharBuffer.wrap(line);
+        while (true) {
+            CoderResult result = encoder.encode(chars, out, false);
+            // E.g. a lone surrogate in a title; fail rather than cut the record short.
+            if (result.isError()) result.throwException();
+            if (!result.isOverflow()) break;
+            out.flip();
+            while (out.hasRemaining()) channel.write(out);
+            out.clear();
+        }
+        line.setLength(0);
+    }
+
+    private StringBuilder date(Event e) {
+        line.append(e.year()).append('-');
+        pad2(e.month()).append('-');
+        return pad2(e.day());
+    }
+
+    private StringBuilder compactDate(Event e) {
+        line.append(e.year());
+        pad2(e.month());
+        return pad2(e.day());
+    }
+
+    /** {@code yyyyMMddTHHmm00} of a minute of the event's day; 1440 is midnight of the next day. */
+    private StringBuilder dateTime(Event e, int minute) {
+        if (minute == 1440) {
+            LocalDate next = e.date().plusDays(1);
+            line.append(next.getYear());
+            pad2(next.getMonthValue());
+            pad2(next.getDayOfMonth()).append("T000000");
+            return line;
+        }
+        compactDate(e).append('T');
+        pad2(minute / 60);
+        return pad2(minute % 60).append("00");
+    }
+
+    private StringBuilder time(int minute) {
+        pad2(minute / 60).append(':');
+        return pad2(minute % 60);
+    }
+
+    private StringBuilder pad2(int value) {
+        if (value < 10) line.append('0');
+        return line.append(value);
+    }
+
+    private StringBuilder csv(String value) {
+        if (value == null) return line;
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) return line.append(value);
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') line.append('"');
+            line.append(c);
+        }
+        return line.append('"');
+    }
+
+    private void ics(String name, String value) {
+        int start = line.length();
+        line.append(name).append(':');
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\': case ';': case ',': line.append('\\').append(c); break;
+                    case '\n': line.append("\\n"); break;
+                    case '\r': break;
+                    default: line.append(c);
+                }
+            }
+        }
+        // Fold lines longer than 75 octets as RFC 5545 requires, never inside a UTF-8 sequence.
+        // The space opening a continuation line counts towards its 75.
+        int octets = 0;
+        for (int pos = start; pos < line.length(); ) {
+            int cp = line.codePointAt(pos);
+            int size = cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+            if (octets + size > 75) {
+                line.insert(pos, "\r\n ");
+                pos += 3;
+                octets = 1;
+            }
+            octets += size;
+            pos += Character.charCount(cp);
+        }
+        line.append("\r\n");
+    }
+}
@@ -0,0 +1,382 @@
+package com.example.calander.core;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Streaming importer for iCalendar (.ics) and CSV files. Events are parsed one at a time and
+ * handed to the sink in fixed-size batches, so memory stays bounded regardless of file size.
+ * An event whose recurrence {@link RecurrenceRule} cannot expand exactly is imported as a single
+ * occurrence and counted in {@link Result#unsupportedRules()}. iCalendar times in UTC or with a
+ * TZID are converted to the system zone; floating times are taken as they are.
+ */
+public class EventImporter {
+    public enum Format { ICS, CSV }
+
+    public interface ProgressListener {
+        void progress(long events, long bytesRead, long totalBytes, long elapsedNanos);
+    }
+
+    /**
+     * @param unsupportedRules events among {@code events} imported as a single occurrence because
+     *                         their recurrence rule is not supported
+     */
+    public record Result(long events, long skipped, long unsupportedRules, long elapsedNanos) {
+        public double eventsPerSecond() {
+            return elapsedNanos == 0 ? 0 : events * 1e9 / elapsedNanos;
+        }
+    }
+
+    static final String[] CSV_HEADER = {"title", "note", "category", "date", "recurring", "reminder", "start", "end"};
+    private static final int DEFAULT_BATCH = 5000;
+
+    private final int batchSize;
+    private final Consumer<List<Event>> sink;
+    private final ProgressListener progress;
+    private List<Event> batch;
+    private long imported, skipped, unsupportedRules;
+
+    public EventImporter(Consumer<List<Event>> sink, ProgressListener progress) {
+        this(DEFAULT_BATCH, sink, progress);
+    }
+
+    public EventImporter(int batchSize, Consumer<List<Event>> sink, ProgressListener progress) {
+        this.batchSize = batchSize;
+        this.sink = sink;
+        this.progress = progress;
+    }
+
+    public static Format formatOf(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv") ? Format.CSV : Format.ICS;
+    }
+
+    public Result importFile(Path file) throws IOException {
+        long total = Files.size(file);
+        long start = System.nanoTime();
+        imported = skipped = unsupportedRules = 0;
+        batch = new ArrayList<>(batchSize);
+        try (CountingInputStream in = new CountingInputStream(Files.newInputStream(file));
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16)) {
+            Runnable tick = () -> progress.progress(imported, in.count, total, System.nanoTime() - start);
+            if (formatOf(file) == Format.CSV) readCsv(reader, tick);
+            else readIcs(reader, tick);
+            if (!batch.isEmpty()) sink.accept(batch);
+            tick.run();
+        }
+        return new Result(imported, skipped, unsupportedRules, System.nanoTime() - start);
+    }
+
+    private void emit(Event e, Runnable tick) {
+        batch.add(e);
+        imported++;
+        if (batch.size() == batchSize) {
+            sink.accept(batch);
+            batch = new ArrayList<>(batchSize);
+            tick.run();
+        }
+    }
+
+    // --- iCalendar ---
+
+    private void readIcs(BufferedReader reader, Runnable tick) throws IOException {
+        IcsEvent current = null;
+        ZoneId zone = ZoneId.systemDefault();
+        String pending = reader.readLine();
+        while (pending != null) {
+            StringBuilder line = new StringBuilder(pending);
+            String next;
+            while ((next = reader.readLine()) != null && !next.isEmpty() && (next.charAt(0) == ' ' || next.charAt(0) == '\t')) {
+                line.append(next, 1, next.length());
+            }
+            pending = next;
+            String text = line.toString();
+            int colon = text.indexOf(':');
+            if (colon < 0) continue;
+            String nameAndParams = text.substring(0, colon), value = text.substring(colon + 1);
+            int semi = nameAndParams.indexOf(';');
+            String name = (semi < 0 ? nameAndParams : nameAndParams.substring(0, semi)).toUpperCase(Locale.ROOT);
+            String params = semi < 0 ? "" : nameAndParams.substring(semi + 1);
+            switch (name) {
+                case "BEGIN":
+                    if (value.equalsIgnoreCase("VEVENT")) current = new IcsEvent();
+                    else if (value.equalsIgnoreCase("VALARM") && current != null) current.inAlarm = true;
+                    break;
+                case "END":
+                    if (value.equalsIgnoreCase("VALARM") && current != null) current.inAlarm = false;
+                    else if (value.equalsIgnoreCase("VEVENT") && current != null) {
+                        Event e = current.toEvent(zone);
+                        if (e == null) {
+                            skipped++;
+                        } else {
+                            if (current.unsupportedRule) unsupportedRules++;
+                            emit(e, tick);
+                        }
+                        current = null;
+                    }
+                    break;
+                default:
+                    if (current != null) current.set(name, params, value);
+            }
+        }
+    }
+
+    private static final class IcsEvent {
+        String summary = "", description = "", start, end, rrule, trigger;
+        // Zones of the DTSTART, DTEND and EXDATE values; null for floating local time.
+        ZoneId startZone, endZone, exDateZone;
+        Category category = Category.OTHER;
+        final List<String> exDates = new ArrayList<>();
+        boolean inAlarm, unsupportedRule;
+
+        void set(String name, String params, String value) {
+            if (inAlarm) {
+                if (name.equals("TRIGGER")) trigger = value;
+                return;
+            }
+            switch (name) {
+                case "SUMMARY": summary = unescape(value); break;
+                case "DESCRIPTION": description = unescape(value); break;
+                case "CATEGORIES": category = Category.parse(unescape(value.split(",", 2)[0])); break;
+                case "DTSTART": start = value; startZone = zone(value, params); break;
+                case "DTEND": end = value; endZone = zone(value, params); break;
+                case "RRULE": rrule = value; break;
+                case "EXDATE": exDates.addAll(Arrays.asList(value.split(","))); exDateZone = zone(value, params); break;
+                default:
+            }
+        }
+
+        Event toEvent(ZoneId zone) {
+            if (start == null || start.length() < 8) return null;
+            try {
+                LocalDate written = RecurrenceRule.parseDate(start);
+                LocalDateTime startTime = dateTime(start, startZone, zone);
+                LocalDate date = startTime == null ? written : startTime.toLocalDate();
+                LocalTime reminder = null;
+                if (trigger != null && startTime != null) {
+                    LocalDateTime at = startTime.plusSeconds(parseOffsetSeconds(trigger));
+                    // Reminders fire on the event's day: one due the day before fires at midnight,
+                    // one due after the day has ended is dropped.
+                    if (at.toLocalDate().isBefore(date)) reminder = LocalTime.MIDNIGHT;
+                    else if (at.toLocalDate().equals(date)) reminder = at.toLocalTime();
+                }
+                int startMinute = -1, endMinute = -1;
+                LocalDateTime endTime = end == null || startTime == null ? null : dateTime(end, endZone, zone);
+                if (endTime != null) {
+                    startMinute = startTime.getHour() * 60 + startTime.getMinute();
+                    // An event ending on a later day is busy until midnight of its start day.
+                    endMinute = endTime.toLocalDate().equals(date) ? endTime.getHour() * 60 + endTime.getMinute() : 1440;
+                }
+                RecurrenceRule recurrence = null;
+                if (rrule != null) {
+                    try {
+                        // BY parts name days as seen in the event's own zone, which the move to local time may have changed.
+                        if (!date.equals(written) && rrule.toUpperCase(Locale.ROOT).contains("BY")) {
+                            throw new IllegalArgumentException("RRULE days shifted by time zone: " + rrule);
+                        }
+                        recurrence = RecurrenceRule.parse(rrule, date);
+                        for (String exDate : exDates) {
+                            LocalDateTime exTime = dateTime(exDate.trim(), exDateZone, zone);
+                            recurrence = recurrence.withExDate(exTime == null ? RecurrenceRule.parseDate(exDate.trim()) : exTime.toLocalDate());
+                        }
+                    } catch (RuntimeException ex) {
+                        recurrence = null;
+                        unsupportedRule = true;
+                    }
+                }
+                Event e = new Event(summary, description, category, date.getYear(), date.getMonthValue(),
+                        date.getDayOfMonth(), recurrence, reminder);
+                if (startMinute >= 0 && endMinute >= startMinute) e.setMinutes(startMinute, endMinute);
+                return e;
+            } catch (RuntimeException ex) {
+                return null;
+            }
+        }
+    }
+
+    /** Zone of a DATE-TIME value: UTC for a trailing Z, else its TZID, else null for floating time. */
+    static ZoneId zone(String value, String params) {
+        if (value.endsWith("Z") || value.endsWith("z")) return ZoneOffset.UTC;
+        for (String param : params.split(";")) {
+            if (!param.regionMatches(true, 0, "TZID=", 0, 5)) continue;
+            String id = param.substring(5).replace("\"", "");
+            try {
+                return ZoneId.of(id);
+            } catch (DateTimeException ex) {
+                // Not an IANA id, e.g. a Windows zone name: read as local time.
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /** A {@code yyyyMMddTHHmmss} value in {@code zone}'s local time, or null for a date without time. */
+    static LocalDateTime dateTime(String value, ZoneId from, ZoneId zone) {
+        if (value.length() < 13 || value.charAt(8) != 'T') return null;
+        LocalDateTime time = RecurrenceRule.parseDate(value).atTime(Integer.parseInt(value.substring(9, 11)),
+                Integer.parseInt(value.substring(11, 13)), value.length() >= 15 && Character.isDigit(value.charAt(14))
+                        ? Integer.parseInt(value.substring(13, 15)) : 0);
+        return from == null ? time : time.atZone(from).withZoneSameInstant(zone).toLocalDateTime();
+    }
+
+    /** Parses a relative TRIGGER such as {@code -PT15M} or {@code -P1DT2H}; absolute triggers count as zero. */
+    static long parseOffsetSeconds(String trigger) {
+        String t = trigger.trim().toUpperCase(Locale.ROOT);
+        int sign = 1, i = 0;
+        if (t.startsWith("-")) { sign = -1; i = 1; } else if (t.startsWith("+")) i = 1;
+        if (i >= t.length() || t.charAt(i) != 'P') return 0;
+        long seconds = 0, number = 0;
+        for (i++; i < t.length(); i++) {
+            char c = t.charAt(i);
+            if (c >= '0' && c <= '9') { number = number * 10 + (c - '0'); continue; }
+            switch (c) {
+                case 'W': seconds += number * 604800; break;
+                case 'D': seconds += number * 86400; break;
+                case 'H': seconds += number * 3600; break;
+                case 'M': seconds += number * 60; break;
+                case 'S': seconds += number; break;
+                default:
+            }
+            number = 0;
+        }
+        return sign * seconds;
+    }
+
+    static String unescape(String value) {
+        if (value.indexOf('\\') < 0) return value;
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char n = value.charAt(++i);
+                sb.append(n == 'n' || n == 'N' ? '\n' : n);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // --- CSV ---
+
+    private void readCsv(BufferedReader reader, Runnable tick) throws IOException {
+        List<String> fields = new ArrayList<>(CSV_HEADER.length);
+        StringBuilder field = new StringBuilder();
+        boolean header = true;
+        while (readCsvRecord(reader, fields, field)) {
+            if (header) {
+                header = false;
+                if (!fields.isEmpty() && fields.get(0).equalsIgnoreCase(CSV_HEADER[0])) continue;
+            }
+            Event e = csvEvent(fields);
+            if (e != null) emit(e, tick);
+            else skipped++;
+        }
+    }
+
+    /** Reads one RFC 4180 record, including quoted fields spanning lines. Returns false at end of input. */
+    private static boolean readCsvRecord(Reader reader, List<String> fields, StringBuilder field) throws IOException {
+        fields.clear();
+        field.setLength(0);
+        boolean quoted = false, any = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') field.append('"');
+                    else { reader.reset(); quoted = false; }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!any) return false;
+        fields.add(field.toString());
+        return true;
+    }
+
+    private Event csvEvent(List<String> f) {
+        if (f.size() < 4 || f.get(0).isBlank()) return null;
+        try {
+            LocalDate date = LocalDate.parse(f.get(3).trim());
+            RecurrenceRule recurrence = null;
+            boolean unsupported = false;
+            if (f.size() > 4) {
+                try {
+                    recurrence = csvRecurrence(f.get(4).trim());
+                } catch (RuntimeException ex) {
+                    unsupported = true;
+                }
+            }
+            LocalTime reminder = f.size() > 5 && !f.get(5).isBlank() ? LocalTime.parse(f.get(5).trim()) : null;
+            Event e = new Event(f.get(0), f.get(1), Category.parse(f.get(2)), date.getYear(),
+                    date.getMonthValue(), date.getDayOfMonth(), recurrence, reminder);
+            if (f.size() > 7 && !f.get(6).isBlank() && !f.get(7).isBlank()) e.setMinutes(minuteOfDay(f.get(6)), minuteOfDay(f.get(7)));
+            if (unsupported) unsupportedRules++;
+            return e;
+        } catch (RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /** Parses {@code HH:mm}, allowing {@code 24:00} for an event that runs until midnight. */
+    static int minuteOfDay(String value) {
+        String v = value.trim();
+        int colon = v.indexOf(':');
+        int minute = Integer.parseInt(v.substring(0, colon)) * 60 + Integer.parseInt(v.substring(colon + 1, colon + 3));
+        if (minute > 1440) throw new IllegalArgumentException("Invalid time " + value);
+        return minute;
+    }
+
+    /** The recurring column holds an RRULE; older files wrote true/false for yearly recurrence. */
+    private static RecurrenceRule csvRecurrence(String value) {
+        if (value.isEmpty() || value.equalsIgnoreCase("false")) return null;
+        if (value.equalsIgnoreCase("true")) return RecurrenceRule.YEARLY;
+        return RecurrenceRule.parse(value);
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.example.calander.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * On-disk event storage: an append-only journal of add/update/delete operations that is
+ * periodically compacted into a snapshot file. The snapshot is read through a memory-mapped
+ * channel on startup and the journal replayed on top of it.
+ * <p>
+ * Operations are encoded on the caller's thread and handed to a writer thread, which appends
+ * everything queued since its last write in one batch and forces it to disk once (group commit).
+ * Compaction also runs on the writer thread by merging the snapshot and journal on disk, so it
+ * never has to look at the live event objects.
+ * <p>
+ * A failed write is cut back off the journal, so no torn record is left for later records to
+ * follow, and its entries are kept and retried with backoff ahead of anything recorded since.
+ * While they are unwritten, {@link #flush()} and {@link #close()} fail.
+ */
+public class EventJournal implements AutoCloseable {
+    static final int SNAPSHOT_MAGIC = 0x4C474353; // "LGCS"
+    static final int SNAPSHOT_VERSION = 1;
+    private static final byte OP_PUT = 1, OP_DELETE = 2;
+    // Record flags. Older records only carry FLAG_YEARLY, for the original yearly-recurring flag.
+    private static final byte FLAG_YEARLY = 1, FLAG_RULE = 2, FLAG_TIMES = 4;
+    private static final long MIN_COMPACT_BYTES = 8L << 20;
+    private static final long MIN_RETRY_MILLIS = 100, MAX_RETRY_MILLIS = 30_000;
+
+    /** A flush request, queued behind the entries it waits for. */
+    private static final class Flush {
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile IOException failure;
+    }
+
+    private final Path snapshotFile;
+    private final Path journalFile;
+    // Encoded entries (byte[]) and Flush requests, in submission order.
+    private final BlockingQueue<Object> pending = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private FileChannel journal;
+    private long snapshotBytes;
+    // End of the intact journal; writes start here, over anything a failed write left behind.
+    private long written;
+    // Why the last write failed; read on the writer thread only.
+    private IOException failure;
+    private volatile boolean closed;
+
+    public EventJournal(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.snapshotFile = directory.resolve("events.snap");
+        this.journalFile = directory.resolve("events.log");
+        this.writer = new Thread(this::writeLoop, "calendar-journal");
+        writer.setDaemon(true);
+    }
+
+    public static Path defaultDirectory() {
+        String dir = System.getProperty("calendar.dataDir");
+        return dir != null ? Path.of(dir) : Path.of(System.getProperty("user.home"), ".liquid-glass-calendar");
+    }
+
+    /** Loads every stored event and starts the writer. Must be called once, before any record call. */
+    public Collection<Event> load() throws IOException {
+        Map<Long, Event> events = new LinkedHashMap<>();
+        byte[] scratch = new byte[256];
+        if (Files.exists(snapshotFile)) {
+            try (FileChannel ch = FileChannel.open(snapshotFile, READ)) {
+                snapshotBytes = ch.size();
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, snapshotBytes);
+                int count = readSnapshotHeader(buf);
+                for (int i = 0; i < count; i++) {
+                    int len = buf.getInt();
+                    int end = buf.position() + len;
+                    Event e = decode(buf, scratch);
+                    events.put(e.id, e);
+                    buf.position(end);
+                }
+            }
+        }
+        journal = FileChannel.open(journalFile, CREATE, READ, WRITE);
+        long valid = replay(journal, (op, payload) -> {
+            if (op == OP_PUT) {
+                Event e = decode(payload, scratch);
+                events.put(e.id, e);
+            } else {
+                events.remove(payload.getLong());
+            }
+        });
+        if (valid < journal.size()) journal.truncate(valid);
+        journal.position(valid);
+        written = valid;
+        writer.start();
+        return events.values();
+    }
+
+    public void recordAdd(Event e) {
+        submit(OP_PUT, encode(e));
+    }
+
+    public void recordUpdate(Event e) {
+        submit(OP_PUT, encode(e));
+    }
+
+    public void recordDelete(Event e) {
+        submit(OP_DELETE, ByteBuffer.allocate(Long.BYTES).putLong(e.id).array());
+    }
+
+    /**
+     * Blocks until everything recorded so far is on disk.
+     *
+     * @throws IOException           if the writer could not write it; it keeps retrying in the background
+     * @throws IllegalStateException if the journal is not loaded or already closed
+     */
+    public void flush() throws InterruptedException, IOException {
+        if (!writer.isAlive()) throw new IllegalStateException(closed ? "journal closed" : "journal not loaded");
+        Flush flush = new Flush();
+        pending.add(flush);
+        flush.done.await();
+        if (flush.failure != null) throw new IOException("Event journal not written", flush.failure);
+    }
+
+    /** Flushes and closes the journal; throws if recorded entries could not be written, which are then lost. */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        try {
+            if (writer.isAlive()) flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closed = true;
+            writer.interrupt();
+            if (journal != null) journal.close();
+        }
+    }
+
+    private void submit(byte op, byte[] payload) {
+        if (closed) throw new IllegalStateException("journal closed");
+        byte[] entry = new byte[9 + payload.length];
+        ByteBuffer buf = ByteBuffer.wrap(entry);
+        CRC32 crc = new CRC32();
+        crc.update(op);
+        crc.update(payload);
+        buf.putInt(1 + payload.length).putInt((int) crc.getValue()).put(op).put(payload);
+        pending.add(entry);
+    }
+
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>();
+        // Entries not yet on disk, oldest first; only non-empty after a failed write.
+        List<byte[]> unwritten = new ArrayList<>();
+        List<Flush> flushes = new ArrayList<>();
+        long retryMillis = 0;
+        while (!closed) {
+            try {
+                Object first = unwritten.isEmpty() ? pending.take() : pending.poll(retryMillis, TimeUnit.MILLISECONDS);
+                if (first != null) batch.add(first);
+                pending.drainTo(batch);
+                for (Object item : batch) {
+                    if (item instanceof Flush flush) flushes.add(flush);
+                    else unwritten.add((byte[]) item);
+                }
+                batch.clear();
+                IOException failed = null;
+                if (!unwritten.isEmpty()) {
+                    if (append(unwritten)) {
+                        unwritten.clear();
+                        retryMillis = 0;
+                    } else {
+                        failed = failure;
+                        retryMillis = Math.min(Math.max(retryMillis * 2, MIN_RETRY_MILLIS), MAX_RETRY_MILLIS);
+                    }
+                }
+                // Every flush in the batch waits for entries queued before it, all written or kept together.
+                for (Flush flush : flushes) {
+                    flush.failure = failed;
+                    flush.done.countDown();
+                }
+                flushes.clear();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Appends the entries at the end of the intact journal and forces them to disk, compacting
+     * afterwards if the journal has grown enough. On failure the journal is cut back to its
+     * intact end and false returned.
+     */
+    private boolean append(List<byte[]> entries) {
+        try {
+            ByteBuffer[] array = new ByteBuffer[entries.size()];
+            for (int i = 0; i < array.length; i++) array[i] = ByteBuffer.wrap(entries.get(i));
+            journal.position(written);
+            while (array[array.length - 1].hasRemaining()) journal.write(array);
+            // A retry may be shorter than the torn write before it.
+            if (journal.size() > journal.position()) journal.truncate(journal.position());
+            journal.force(false);
+            written = journal.position();
+        } catch (IOException e) {
+            failure = e;
+            System.err.println("Event journal write failed, " + entries.size() + " entries kept for retry: " + e);
+            try {
+                journal.truncate(written);
+            } catch (IOException ex) {
+                // The retry writes from the same position, over whatever part got through.
+                System.err.println("Event journal not cut back: " + ex);
+            }
+            return false;
+        }
+        try {
+            if (written >= Math.max(MIN_COMPACT_BYTES, snapshotBytes / 2)) compact();
+        } catch (IOException e) {
+            // The entries are safely in the journal; compaction is tried again after the next write.
+            System.err.println("Event journal compaction failed: " + e);
+        }
+        return true;
+    }
+
+    /** Merges the snapshot and journal into a new snapshot, then empties the journal. */
+    private void compact() throws IOException {
+        Map<Long, byte[]> records = new LinkedHashMap<>();
+        if (Files.exists(snapshotFile)) {
+            try (FileChannel ch = FileChannel.open(snapshotFile, READ)) {
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+                int count = readSnapshotHeader(buf);
+                for (int i = 0; i < count; i++) {
+                    byte[] record = new byte[buf.getInt()];
+                    buf.get(record);
+                    records.put(ByteBuffer.wrap(record).getLong(), record);
+                }
+            }
+        }
+        replay(journal, (op, payload) -> {
+            long id = payload.getLong(payload.position());
+            if (op == OP_PUT) {
+                byte[] record = new byte[payload.remaining()];
+                payload.get(record);
+                records.put(id, record);
+            } else {
+                records.remove(id);
+            }
+        });
+        Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+            buf.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putInt(records.size());
+            for (byte[] record : records.values()) {
+                if (buf.remaining() < 4 + record.length) {
+                    drain(out, buf);
+                    if (buf.capacity() < 4 + record.length) buf = ByteBuffer.allocate(4 + record.length);
+                }
+                buf.putInt(record.length).put(record);
+            }
+            drain(out, buf);
+            out.force(true);
+            snapshotBytes = out.size();
+        }
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        journal.truncate(0);
+        journal.position(0);
+        written = 0;
+    }
+
+    private static void drain(FileChannel out, ByteBuffer buf) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) out.write(buf);
+        buf.clear();
+    }
+
+    private static int readSnapshotHeader(ByteBuffer buf) throws IOException {
+        if (buf.remaining() < 12 || buf.getInt() != SNAPSHOT_MAGIC || buf.getInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Unrecognized event snapshot");
+        }
+        return buf.getInt();
+    }
+
+    private interface JournalVisitor {
+        void visit(byte op, ByteBuffer payload);
+    }
+
+    /** Visits every intact journal entry and returns the offset just past the last one. */
+    private static long replay(FileChannel ch, JournalVisitor visitor) throws IOException {
+        long size = ch.size();
+        if (size == 0) return 0;
+        // Read rather than map: the journal is truncated after compaction, which some platforms
+        // refuse while a mapping is still alive.
+        ByteBuffer buf = ByteBuffer.allocate((int) size);
+        while (buf.hasRemaining()) {
+            if (ch.read(buf, buf.position()) < 0) break;
+        }
+        buf.flip();
+        CRC32 crc = new CRC32();
+        while (buf.remaining() >= 9) {
+            int start = buf.position();
+            int len = buf.getInt();
+            int checksum = buf.getInt();
+            if (len < 1 || len > buf.remaining()) return start;
+            ByteBuffer entry = buf.slice(buf.position(), len);
+            crc.reset();
+            crc.update(entry.duplicate());
+            if ((int) crc.getValue() != checksum) return start;
+            byte op = entry.get();
+            visitor.visit(op, entry.slice());
+            buf.position(buf.position() + len);
+        }
+        return buf.position();
+    }
+
+    static byte[] encode(Event e) {
+        byte[] title = bytes(e.title), note = bytes(e.note), category = bytes(e.category.label);
+        byte[] rule = e.isRecurring() ? bytes(e.recurrence.toString()) : null;
+        int start = e.startMinute(), end = e.endMinute();
+        int size = 8 + 4 + 1 + 1 + 1 + 4 + 12 + title.length + note.length + category.length;
+        if (rule != null) size += 4 + rule.length;
+        if (start >= 0) size += 4;
+        ByteBuffer buf = ByteBuffer.allocate(size);
+        buf.putLong(e.id).putInt(e.year()).put((byte) e.month()).put((byte) e.day())
+                .put((byte) ((rule == null ? 0 : FLAG_RULE) | (start < 0 ? 0 : FLAG_TIMES)))
+                .putInt(e.reminderMinute() < 0 ? -1 : e.reminderMinute() * 60);
+        putString(buf, title);
+        putString(buf, note);
+        putString(buf, category);
+        if (rule != null) putString(buf, rule);
+        if (start >= 0) buf.putShort((short) start).putShort((short) end);
+        return buf.array();
+    }
+
+    static Event decode(ByteBuffer buf, byte[] scratch) {
+        long id = buf.getLong();
+        int year = buf.getInt(), month = buf.get(), day = buf.get();
+        byte flags = buf.get();
+        int reminder = buf.getInt();
+        String title = getString(buf, scratch), note = getString(buf, scratch), category = getString(buf, scratch);
+        RecurrenceRule recurrence = (flags & FLAG_RULE) != 0 ? RecurrenceRule.parse(getString(buf, scratch))
+                : (flags & FLAG_YEARLY) != 0 ? RecurrenceRule.YEARLY : null;
+        Event e = new Event(title, note, Category.parse(category), year, month, day, recurrence,
+                reminder < 0 ? null : LocalTime.ofSecondOfDay(reminder));
+        if ((flags & FLAG_TIMES) != 0) e.setMinutes(buf.getShort(), buf.getShort());
+        e.id = id;
+        return e;
+    }
+
+    private static byte[] bytes(String s) {
+        return s == null ? new byte[0] : s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putString(ByteBuffer buf, byte[] bytes) {
+        buf.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buf, byte[] scratch) {
+        int len = buf.getInt();
+        byte[] target = len <= scratch.length ? scratch : new byte[len];
+        buf.get(target, 0, len);
+        return new String(target, 0, len, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,363 @@
+package com.example.calander.core;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Event index. One-off events live in a columnar {@link EventTable} keyed by year and month;
+ * recurring series are kept apart and expanded lazily, one month at a time, into cached
+ * segments. Yearly series can only occur in their start month, so they are bucketed by month
+ * and a month's expansion only visits the series that can produce occurrences in it. Per-year
+ * {@link YearSummary} counts are built on first use and then patched by every change.
+ * <p>
+ * Thread-safe. Writers serialize on one lock; reads never lock. Month segments publish
+ * copy-on-write snapshots, series are held in copy-on-write lists and cached expansions are
+ * tagged with the series version they were built from, so an importer or sync thread can write
+ * while the UI thread renders. {@link #version()} lets a reader detect a write that overlapped
+ * a walk; summary counts read during a write may lag it by that one change.
+ */
+public class EventStore {
+    private static final int CACHED_MONTHS = 36;
+    /** Ids at or above this carry another replica's prefix (see {@link SyncClient}) and never advance local ids. */
+    static final long FOREIGN_IDS = 1L << 40;
+    private static final Probe GET_EVENTS = Metrics.probe("store.getEvents");
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final EventTable dated = new EventTable();
+    private final List<Event> series = new CopyOnWriteArrayList<>();
+    @SuppressWarnings("unchecked")
+    private final List<Event>[] yearlyByMonth = new List[13];
+    private final Map<Integer, Expansion> expansions = new ConcurrentHashMap<>();
+    private final Map<Integer, YearSummary> summaries = new ConcurrentHashMap<>();
+    // Rule and category each series was counted with, so edits in place can be subtracted.
+    private final Map<Event, Counted> countedSeries = new ConcurrentHashMap<>();
+    private volatile long seriesVersion;
+    private volatile long version;
+    // Version a write will publish, recorded per month of dated events and for series changes
+    // after the change itself is visible; see monthStamp.
+    private final Map<Integer, Long> monthChanges = new ConcurrentHashMap<>();
+    private volatile long seriesChangedAt;
+    private long lastId;
+
+    private record Counted(RecurrenceRule rule, Category category) {
+    }
+
+    private record Expansion(long seriesVersion, EventTable.Segment segment) {
+    }
+
+    public EventStore() {
+        for (int month = 1; month <= 12; month++) yearlyByMonth[month] = new CopyOnWriteArrayList<>();
+    }
+
+    static int epochDay(int year, int month, int day) {
+        return (int) LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    /** Number of changes applied so far; unchanged across a read means no write overlapped it. */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Version of the last change that can affect the month: a write to an event dated in it or
+     * any series change. Read before a walk of the month, an unchanged stamp afterwards means a
+     * result built from the walk is still current.
+     */
+    public long monthStamp(int year, int month) {
+        Long dated = monthChanges.get((year << 4) | month);
+        long series = seriesChangedAt;
+        return dated == null ? series : Math.max(dated, series);
+    }
+
+    /** Adds an event, assigning it the next free id unless it already carries one. */
+    public void add(Event e) {
+        writeLock.lock();
+        try {
+            assignId(e);
+            if (e.isRecurring()) addSeries(List.of(e));
+            else addDated(e);
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Adds a batch under one lock; its series are appended with one copy per list. */
+    public void addAll(Collection<Event> batch) {
+        writeLock.lock();
+        try {
+            List<Event> newSeries = new ArrayList<>();
+            for (Event e : batch) {
+                assignId(e);
+                if (e.isRecurring()) newSeries.add(e);
+                else addDated(e);
+            }
+            if (!newSeries.isEmpty()) addSeries(newSeries);
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(Event e) {
+        writeLock.lock();
+        try {
+            if (e.isRecurring()) removeSeries(e);
+            else removeDated(e, e.category);
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Re-indexes an event after an in-place edit of its category, reminder or recurrence. */
+    public void update(Event e, boolean wasRecurring) {
+        writeLock.lock();
+        try {
+            reindex(e, wasRecurring);
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Per-day counts of every occurrence in the year, built on first use and kept current.
+     * The build runs without the lock and is only redone under it if a write overlapped.
+     */
+    public YearSummary yearSummary(int year) {
+        YearSummary summary = summaries.get(year);
+        if (summary != null) return summary;
+        long seen = version;
+        YearSummary built = buildSummary(year);
+        writeLock.lock();
+        try {
+            summary = summaries.get(year);
+            if (summary != null) return summary;
+            if (version != seen) built = buildSummary(year);
+            summaries.put(year, built);
+            return built;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private YearSummary buildSummary(int year) {
+        YearSummary built = new YearSummary(year);
+        for (int month = 1; month <= 12; month++) {
+            EventTable.Segment segment = dated.segment(year, month);
+            int m = month;
+            if (segment != null) segment.forEach((day, category, reminder, e) -> built.add(m, day, category, 1));
+        }
+        for (Map.Entry<Event, Counted> entry : countedSeries.entrySet()) {
+            countSeries(built, entry.getKey(), entry.getValue(), 1);
+        }
+        return built;
+    }
+
+    public List<Event> getEvents(int year, int month, int day) {
+        long started = GET_EVENTS.start();
+        List<Event> result = new ArrayList<>();
+        forEachOnDay(year, month, day, (d, category, reminder, e) -> result.add(e));
+        GET_EVENTS.stop(started, result.size());
+        return result;
+    }
+
+    /**
+     * Returns the events of every day in the month, indexed by day of month (slot 0 is unused).
+     * Slots without events are null.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Event>[] getMonth(YearMonth yearMonth) {
+        List<Event>[] days = new List[yearMonth.lengthOfMonth() + 1];
+        forEachInMonth(yearMonth.getYear(), yearMonth.getMonthValue(), (day, category, reminder, e) -> {
+            if (days[day] == null) days[day] = new ArrayList<>(2);
+            days[day].add(e);
+        });
+        return days;
+    }
+
+    /** Visits every event and recurrence of the month; allocation-free once the month is cached. */
+    public void forEachInMonth(int year, int month, EventVisitor visitor) {
+        EventTable.Segment own = dated.segment(year, month);
+        if (own != null) own.forEach(visitor);
+        expansion(year, month).forEach(visitor);
+    }
+
+    public void forEachOnDay(int year, int month, int day, EventVisitor visitor) {
+        EventTable.Segment own = dated.segment(year, month);
+        if (own != null) own.forEachOnDay(day, visitor);
+        expansion(year, month).forEachOnDay(day, visitor);
+    }
+
+    /** True if this very event is stored, as a one-off event or as a series. */
+    public boolean contains(Event e) {
+        if (e.isRecurring()) return countedSeries.containsKey(e);
+        EventTable.Segment own = dated.segment(e.year(), e.month());
+        return own != null && own.contains(e);
+    }
+
+    /** Visits every stored one-off event and series once, at its start date. */
+    public void forEach(EventVisitor visitor) {
+        dated.forEach(visitor);
+        for (Event e : series) visitor.visit(e.day(), e.category, e.reminderMinute(), e);
+        for (int month = 1; month <= 12; month++) {
+            for (Event e : yearlyByMonth[month]) visitor.visit(e.day(), e.category, e.reminderMinute(), e);
+        }
+    }
+
+    /** Returns a new list holding every stored event and series. */
+    public List<Event> all() {
+        List<Event> all = new ArrayList<>(size());
+        forEach((day, category, reminder, e) -> all.add(e));
+        return all;
+    }
+
+    public int size() {
+        int size = dated.size() + series.size();
+        for (int month = 1; month <= 12; month++) size += yearlyByMonth[month].size();
+        return size;
+    }
+
+    private void assignId(Event e) {
+        if (e.id == 0) e.id = ++lastId;
+        else if (e.id < FOREIGN_IDS) lastId = Math.max(lastId, e.id);
+    }
+
+    private void reindex(Event e, boolean wasRecurring) {
+        if (wasRecurring) {
+            // The previous frequency is unknown here, so look in every series bucket.
+            if (!removeSeries(e)) return;
+            if (e.isRecurring()) addSeries(List.of(e));
+            else addDated(e);
+        } else {
+            Category previous = dated.refresh(e);
+            if (previous == null) return;
+            touch(e);
+            if (e.isRecurring()) {
+                removeDated(e, previous);
+                addSeries(List.of(e));
+            } else if (previous != e.category) {
+                count(e, previous, -1);
+                count(e, e.category, 1);
+            }
+        }
+    }
+
+    private void addDated(Event e) {
+        dated.add(e);
+        touch(e);
+        count(e, e.category, 1);
+    }
+
+    private void removeDated(Event e, Category category) {
+        if (!dated.remove(e)) return;
+        touch(e);
+        count(e, category, -1);
+    }
+
+    /** Stamps the event's month; called once the change is published, so a reader never sees the stamp first. */
+    private void touch(Event e) {
+        monthChanges.put((e.year() << 4) | e.month(), version + 1);
+    }
+
+    private void count(Event e, Category category, int delta) {
+        YearSummary summary = summaries.get(e.year());
+        if (summary != null) summary.add(e.month(), e.day(), category, delta);
+    }
+
+    private static void countSeries(YearSummary summary, Event e, Counted counted, int delta) {
+        if (e.year() > summary.year()) return;
+        LocalDate start = e.date();
+        int first = summary.firstEpochDay();
+        if (counted.rule().lastDay(start) < first) return;
+        counted.rule().forEachOccurrence(start, first, summary.lastEpochDay(), day -> {
+            summary.addEpochDay(day, counted.category(), delta);
+            return true;
+        });
+    }
+
+    private void addSeries(List<Event> added) {
+        List<Event> other = new ArrayList<>();
+        Map<Integer, List<Event>> yearly = new HashMap<>();
+        for (Event e : added) {
+            Counted counted = new Counted(e.recurrence, e.category);
+            countedSeries.put(e, counted);
+            for (YearSummary summary : summaries.values()) countSeries(summary, e, counted, 1);
+            if (e.recurrence.frequency != RecurrenceRule.Frequency.YEARLY) other.add(e);
+            else yearly.computeIfAbsent(e.month(), k -> new ArrayList<>()).add(e);
+        }
+        if (!other.isEmpty()) series.addAll(other);
+        yearly.forEach((month, bucket) -> yearlyByMonth[month].addAll(bucket));
+        invalidateExpansions();
+    }
+
+    private boolean removeSeries(Event e) {
+        if (!series.remove(e) && !yearlyByMonth[e.month()].remove(e)) return false;
+        invalidateExpansions();
+        Counted counted = countedSeries.remove(e);
+        for (YearSummary summary : summaries.values()) countSeries(summary, e, counted, -1);
+        return true;
+    }
+
+    private void invalidateExpansions() {
+        seriesVersion++;
+        expansions.clear();
+        seriesChangedAt = version + 1;
+    }
+
+    /**
+     * Occurrences of every series within the month, expanded on first use and cached. A reader
+     * racing a series change may cache an expansion tagged with the older version; the next
+     * reader sees the mismatch and expands again.
+     */
+    private EventTable.Segment expansion(int year, int month) {
+        int key = (year << 4) | month;
+        long current = seriesVersion;
+        Expansion cached = expansions.get(key);
+        if (cached != null && cached.seriesVersion() == current) return cached.segment();
+        EventTable.Segment segment = new EventTable.Segment();
+        YearMonth ym = YearMonth.of(year, month);
+        int first = (int) ym.atDay(1).toEpochDay(), last = first + ym.lengthOfMonth() - 1;
+        expand(series, segment, year, month, first, last);
+        expand(yearlyByMonth[month], segment, year, month, first, last);
+        expansions.put(key, new Expansion(current, segment));
+        if (expansions.size() > CACHED_MONTHS) evictFarthestFrom(key);
+        return segment;
+    }
+
+    /** Drops the cached month farthest from the one just expanded, keeping the browsed window. */
+    private void evictFarthestFrom(int key) {
+        int farthest = key, distance = 0;
+        for (int other : expansions.keySet()) {
+            int d = Math.abs(monthIndex(other) - monthIndex(key));
+            if (d > distance) {
+                farthest = other;
+                distance = d;
+            }
+        }
+        if (farthest != key) expansions.remove(farthest);
+    }
+
+    private static int monthIndex(int key) {
+        return (key >> 4) * 12 + (key & 0xF);
+    }
+
+    private static void expand(List<Event> candidates, EventTable.Segment segment, int year, int month, int first, int last) {
+        for (Event e : candidates) {
+            RecurrenceRule rule = e.recurrence;
+            if (rule == null || e.packedDate() > Event.pack(year, month, 31)) continue;
+            LocalDate start = e.date();
+            if (rule.lastDay(start) < first) continue;
+            EventTable.Segment target = segment;
+            rule.forEachOccurrence(start, first, last, day -> {
+                target.add(day - first + 1, e);
+                return true;
+            });
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.calander.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Columnar event storage split into one segment per month. Each segment keeps the day,
+ * category ordinal and reminder minute of its events in primitive arrays next to the event
+ * references, so rendering and reminder code can walk a month without touching the event
+ * objects or allocating. Segments also serve as the per-month cache of expanded recurrences.
+ * <p>
+ * Writers must be serialized by the caller; readers need no lock. A segment publishes its rows
+ * as an immutable-size {@link Rows} view through a volatile field: appends write past every
+ * published size before publishing the larger view, while removals and edits copy the arrays,
+ * so a reader always walks a consistent month.
+ */
+class EventTable {
+    /** Column arrays plus the number of rows visible through them. */
+    private record Rows(byte[] days, byte[] categories, short[] reminders, Event[] events, int size) {
+        static final Rows EMPTY = new Rows(new byte[4], new byte[4], new short[4], new Event[4], 0);
+
+        Rows copy(int capacity, int size) {
+            return new Rows(Arrays.copyOf(days, capacity), Arrays.copyOf(categories, capacity),
+                    Arrays.copyOf(reminders, capacity), Arrays.copyOf(events, capacity), size);
+        }
+
+        int indexOf(Event e) {
+            for (int i = 0; i < size; i++) if (events[i] == e) return i;
+            return -1;
+        }
+
+        void write(int row, int day, Event e) {
+            days[row] = (byte) day;
+            categories[row] = (byte) e.category.ordinal();
+            reminders[row] = (short) e.reminderMinute();
+            events[row] = e;
+        }
+    }
+
+    static final class Segment {
+        private volatile Rows rows = Rows.EMPTY;
+
+        int size() {
+            return rows.size;
+        }
+
+        boolean contains(Event e) {
+            return rows.indexOf(e) >= 0;
+        }
+
+        void add(int day, Event e) {
+            Rows current = rows;
+            int size = current.size;
+            Rows next = size == current.events.length || current == Rows.EMPTY
+                    ? current.copy(Math.max(4, size * 2), size + 1)
+                    : new Rows(current.days, current.categories, current.reminders, current.events, size + 1);
+            next.write(size, day, e);
+            rows = next;
+        }
+
+        boolean remove(Event e) {
+            Rows current = rows;
+            int row = current.indexOf(e);
+            if (row < 0) return false;
+            int last = current.size - 1;
+            Rows next = current.copy(current.events.length, last);
+            next.write(row, current.days[last], current.events[last]);
+            next.categories[row] = current.categories[last];
+            next.reminders[row] = current.reminders[last];
+            next.events[last] = null;
+            rows = next;
+            return true;
+        }
+
+        /** Rewrites the columns of an event edited in place and returns its previous category, or null if absent. */
+        Category refresh(Event e) {
+            Rows current = rows;
+            int row = current.indexOf(e);
+            if (row < 0) return null;
+            Rows next = current.copy(current.events.length, current.size);
+            next.write(row, current.days[row], e);
+            rows = next;
+            return Category.of(current.categories[row]);
+        }
+
+        void forEach(EventVisitor visitor) {
+            Rows r = rows;
+            for (int i = 0; i < r.size; i++) {
+                visitor.visit(r.days[i], Category.of(r.categories[i]), r.reminders[i], r.events[i]);
+            }
+        }
+
+        void forEachOnDay(int day, EventVisitor visitor) {
+            Rows r = rows;
+            for (int i = 0; i < r.size; i++) {
+                if (r.days[i] == day) visitor.visit(day, Category.of(r.categories[i]), r.reminders[i], r.events[i]);
+            }
+        }
+    }
+
+    private final ConcurrentNavigableMap<Integer, Segment> segments = new ConcurrentSkipListMap<>();
+    private volatile int size;
+
+    int size() {
+        return size;
+    }
+
+    void add(Event e) {
+        segments.computeIfAbsent(key(e.year(), e.month()), k -> new Segment()).add(e.day(), e);
+        size++;
+    }
+
+    boolean remove(Event e) {
+        int key = key(e.year(), e.month());
+        Segment segment = segments.get(key);
+        if (segment == null || !segment.remove(e)) return false;
+        if (segment.size() == 0) segments.remove(key);
+        size--;
+        return true;
+    }
+
+    /** Rewrites the columns of an event edited in place and returns its previous category, or null if absent. */
+    Category refresh(Event e) {
+        Segment segment = segments.get(key(e.year(), e.month()));
+        return segment == null ? null : segment.refresh(e);
+    }
+
+    /** Returns the segment holding the given month, or null if it has no events. */
+    Segment segment(int year, int month) {
+        return segments.get(key(year, month));
+    }
+
+    void forEach(EventVisitor visitor) {
+        for (Segment segment : segments.values()) segment.forEach(visitor);
+    }
+
+    private static int key(int year, int month) {
+        return (year << 4) | month;
+    }
+}
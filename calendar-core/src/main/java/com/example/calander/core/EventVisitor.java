@@ -0,0 +1,10 @@
+package com.example.calander.core;
+
+/**
+ * Receives the events of a month or day row by row. Day, category and reminder minute come from
+ * the store's columns, so visitors that only need those never dereference the event.
+ */
+@FunctionalInterface
+public interface EventVisitor {
+    void visit(int day, Category category, int reminderMinute, Event event);
+}
@@ -0,0 +1,239 @@
+package com.example.calander.core;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Free/busy time over a date range. Busy time is kept per day as a sorted array of disjoint
+ * {@code [start, end)} minute intervals, so a lookup is a binary search and combining two
+ * calendars is one linear merge per day. Availability across many calendars is a fork-join
+ * reduction: leaves collect the busy days of a few calendars and halves are merged pairwise.
+ * All-day events are not busy time; only events with a start and end block their span.
+ */
+public final class FreeBusy {
+    private static final Probe AVAILABLE = Metrics.probe("freebusy.available");
+    private static final int[] FREE = new int[0];
+    /** Calendars handled by one fork-join leaf. */
+    private static final int LEAF_CALENDARS = 8;
+
+    /** A free span on one day; {@code endMinute} is exclusive and may be 1440. */
+    public record Slot(LocalDate date, int startMinute, int endMinute) {
+        public LocalTime start() {
+            return LocalTime.of(startMinute / 60, startMinute % 60);
+        }
+
+        public LocalTime end() {
+            return endMinute == 1440 ? LocalTime.MAX : LocalTime.of(endMinute / 60, endMinute % 60);
+        }
+
+        public int minutes() {
+            return endMinute - startMinute;
+        }
+    }
+
+    /** Busy intervals of one or more calendars on each day from {@code from} through {@code to}. */
+    public static final class Busy {
+        private final LocalDate from;
+        // Per day: start0, end0, start1, end1, ... sorted and disjoint.
+        private final int[][] days;
+
+        private Busy(LocalDate from, int[][] days) {
+            this.from = from;
+            this.days = days;
+        }
+
+        public LocalDate from() {
+            return from;
+        }
+
+        public LocalDate to() {
+            return from.plusDays(days.length - 1);
+        }
+
+        /** True if any busy interval on {@code date} overlaps {@code [startMinute, endMinute)}. */
+        public boolean isBusy(LocalDate date, int startMinute, int endMinute) {
+            int[] day = day(date);
+            // First interval ending after startMinute: ends sit at odd indexes.
+            int lo = 0, hi = day.length / 2;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (day[2 * mid + 1] <= startMinute) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo < day.length / 2 && day[2 * lo] < endMinute;
+        }
+
+        /** Busy minutes of the day as {@code start, end} pairs; the array must not be modified. */
+        int[] day(LocalDate date) {
+            long i = ChronoUnit.DAYS.between(from, date);
+            if (i < 0 || i >= days.length) throw new IllegalArgumentException(date + " is outside " + from + ".." + to());
+            return days[(int) i];
+        }
+
+        /** Time busy in either this or {@code other}; both must cover the same range. */
+        public Busy union(Busy other) {
+            if (!from.equals(other.from) || days.length != other.days.length) throw new IllegalArgumentException("Different date ranges");
+            int[][] merged = new int[days.length][];
+            for (int i = 0; i < days.length; i++) merged[i] = unionOfDays(days[i], other.days[i]);
+            return new Busy(from, merged);
+        }
+
+        /**
+         * Free spans of at least {@code minMinutes} within working hours
+         * {@code [dayStart, dayEnd)} on every day of the range, in date and time order.
+         */
+        public List<Slot> free(int dayStart, int dayEnd, int minMinutes) {
+            List<Slot> slots = new ArrayList<>();
+            for (int i = 0; i < days.length; i++) {
+                int[] day = days[i];
+                int at = dayStart;
+                for (int j = 0; j < day.length && at < dayEnd; j += 2) {
+                    if (day[j + 1] <= at) continue;
+                    int end = Math.min(day[j], dayEnd);
+                    if (end - at >= minMinutes) slots.add(new Slot(from.plusDays(i), at, end));
+                    at = Math.max(at, day[j + 1]);
+                }
+                if (dayEnd - at >= minMinutes) slots.add(new Slot(from.plusDays(i), at, dayEnd));
+            }
+            return slots;
+        }
+    }
+
+    private FreeBusy() {
+    }
+
+    /** Busy time of one calendar from {@code from} through {@code to}, recurring occurrences included. */
+    public static Busy busy(EventStore store, LocalDate from, LocalDate to) {
+        int length = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (length <= 0) throw new IllegalArgumentException(to + " is before " + from);
+        int[][] spans = new int[length][];
+        int[] counts = new int[length];
+        for (YearMonth ym = YearMonth.from(from); !ym.atDay(1).isAfter(to); ym = ym.plusMonths(1)) {
+            int offset = (int) ChronoUnit.DAYS.between(from, ym.atDay(1)) - 1;
+            store.forEachInMonth(ym.getYear(), ym.getMonthValue(), (day, category, reminder, e) -> {
+                int i = offset + day, start = e.startMinute(), end = e.endMinute();
+                if (i < 0 || i >= length || start < 0 || end <= start) return;
+                int[] row = spans[i];
+                if (row == null) spans[i] = row = new int[4];
+                else if (counts[i] == row.length) spans[i] = row = Arrays.copyOf(row, row.length * 2);
+                row[counts[i]++] = start << 16 | end;
+            });
+        }
+        int[][] days = new int[length][];
+        for (int i = 0; i < length; i++) days[i] = spans[i] == null ? FREE : merge(spans[i], counts[i]);
+        return new Busy(from, days);
+    }
+
+    /**
+     * Combined busy time of every calendar, evaluated in parallel on the common fork-join pool;
+     * the stores are read without locking, so writers keep going meanwhile.
+     */
+    public static Busy busy(List<EventStore> calendars, LocalDate from, LocalDate to) {
+        if (calendars.isEmpty()) return busy(new EventStore(), from, to);
+        return ForkJoinPool.commonPool().invoke(new UnionTask(calendars, 0, calendars.size(), from, to));
+    }
+
+    /**
+     * Spans of at least {@code minMinutes} between {@code dayStart} and {@code dayEnd} on each
+     * day of the range in which every calendar is free.
+     */
+    public static List<Slot> available(List<EventStore> calendars, LocalDate from, LocalDate to,
+                                       LocalTime dayStart, LocalTime dayEnd, int minMinutes) {
+        long started = AVAILABLE.start();
+        int end = dayEnd == LocalTime.MAX ? 1440 : dayEnd.getHour() * 60 + dayEnd.getMinute();
+        List<Slot> slots = busy(calendars, from, to).free(dayStart.getHour() * 60 + dayStart.getMinute(), end, Math.max(1, minMinutes));
+        AVAILABLE.stop(started, calendars.size());
+        return slots;
+    }
+
+    /**
+     * Events with times on {@code date} that overlap {@code candidate}, recurring occurrences
+     * included; the candidate itself is skipped, so it may already be in the store.
+     */
+    public static List<Event> conflicts(EventStore store, Event candidate, LocalDate date) {
+        List<Event> result = new ArrayList<>();
+        if (candidate.isAllDay()) return result;
+        store.forEachOnDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), (day, category, reminder, e) -> {
+            if (e != candidate && candidate.overlaps(e)) result.add(e);
+        });
+        return result;
+    }
+
+    /** Sorts packed {@code start << 16 | end} spans and merges overlapping or touching ones into pairs. */
+    private static int[] merge(int[] packed, int count) {
+        Arrays.sort(packed, 0, count);
+        int[] out = new int[count * 2];
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int start = packed[i] >>> 16, end = packed[i] & 0xFFFF;
+            if (n > 0 && start <= out[n - 1]) {
+                out[n - 1] = Math.max(out[n - 1], end);
+            } else {
+                out[n++] = start;
+                out[n++] = end;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static int[] unionOfDays(int[] a, int[] b) {
+        if (a.length == 0) return b;
+        if (b.length == 0) return a;
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length || j < b.length) {
+            int start, end;
+            if (j == b.length || (i < a.length && a[i] <= b[j])) {
+                start = a[i];
+                end = a[i + 1];
+                i += 2;
+            } else {
+                start = b[j];
+                end = b[j + 1];
+                j += 2;
+            }
+            if (n > 0 && start <= out[n - 1]) {
+                out[n - 1] = Math.max(out[n - 1], end);
+            } else {
+                out[n++] = start;
+                out[n++] = end;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static final class UnionTask extends RecursiveTask<Busy> {
+        private final List<EventStore> calendars;
+        private final int lo, hi;
+        private final LocalDate from, to;
+
+        UnionTask(List<EventStore> calendars, int lo, int hi, LocalDate from, LocalDate to) {
+            this.calendars = calendars;
+            this.lo = lo;
+            this.hi = hi;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Busy compute() {
+            if (hi - lo <= LEAF_CALENDARS) {
+                Busy busy = busy(calendars.get(lo), from, to);
+                for (int i = lo + 1; i < hi; i++) busy = busy.union(busy(calendars.get(i), from, to));
+                return busy;
+            }
+            int mid = (lo + hi) >>> 1;
+            UnionTask left = new UnionTask(calendars, lo, mid, from, to);
+            left.fork();
+            Busy right = new UnionTask(calendars, mid, hi, from, to).compute();
+            return left.join().union(right);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.calander.core;
+
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+/**
+ * UI strings in every supported language, keyed as in {@link Category#bundleKey}. Bundles are
+ * built once and shared, so switching language or rendering on a server never rebuilds them.
+ */
+public final class Messages {
+    public static final String ENGLISH = "English";
+    public static final String BANGLA = "বাংলা";
+    public static final List<String> LANGUAGES = List.of(ENGLISH, BANGLA);
+
+    private static final ResourceBundle ENGLISH_BUNDLE = new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {
+                    {"calendar_title", "Liquid Glass Calendar"},
+                    {"dark_mode", "Dark Mode"},
+                    {"search_events", "Search events..."},
+                    {"mon", "Mon"}, {"tue", "Tue"}, {"wed", "Wed"},
+                    {"thu", "Thu"}, {"fri", "Fri"}, {"sat", "Sat"}, {"sun", "Sun"},
+                    {"settings", "Settings"},
+                    {"add_event", "Add Event"},
+                    {"edit_event", "Edit"},
+                    {"delete_event", "Delete"},
+                    {"event_title", "Title"},
+                    {"event_note", "Note"},
+                    {"category", "Category"},
+                    {"close", "Close"},
+                    {"save", "Save"},
+                    {"recurring", "Recurring"},
+                    {"reminder", "Reminder"},
+                    {"start_time", "Start"},
+                    {"end_time", "End"},
+                    {"invalid_time", "The end time must not be before the start time."},
+                    {"conflict_title", "Time conflict"},
+                    {"conflict_text", "This overlaps with:\n%s\nSave anyway?"},
+                    {"reminders_open", "Reminders (%d)"},
+                    {"snooze", "Snooze 5 min"},
+                    {"snooze_all", "Snooze all"},
+                    {"dismiss", "Dismiss"},
+                    {"dismiss_all", "Dismiss all"},
+                    {"personal", "Personal"},
+                    {"work", "Work"},
+                    {"study", "Study"},
+                    {"health", "Health"},
+                    {"other", "Other"},
+                    {"import_events", "Import..."},
+                    {"export_events", "Export..."},
+                    {"repeat_none", "Does not repeat"},
+                    {"repeat_daily", "Daily"},
+                    {"repeat_weekly", "Weekly"},
+                    {"repeat_biweekly", "Every 2 weeks"},
+                    {"repeat_monthly", "Monthly"},
+                    {"repeat_monthly_weekday", "Monthly on this weekday"},
+                    {"repeat_yearly", "Yearly"},
+                    {"repeat_custom", "Custom"},
+                    {"skip_day", "Skip this day"},
+                    {"view_month", "Month"},
+                    {"view_year", "Year"},
+                    {"view_agenda", "Agenda"},
+                    {"view_results", "All events"},
+                    {"events_found", "%,d events"},
+                    {"metrics", "Performance"}
+            };
+        }
+    };
+
+    private static final ResourceBundle BANGLA_BUNDLE = new ListResourceBundle() {
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {
+                    {"calendar_title", "Liquid Glass ক্যালেন্ডার"},
+                    {"dark_mode", "ডার্ক মোড"},
+                    {"search_events", "ইভেন্ট খুঁজুন..."},
+                    {"mon", "সোম"}, {"tue", "মঙ্গল"}, {"wed", "বুধ"},
+                    {"thu", "বৃহস্পতি"}, {"fri", "শুক্র"}, {"sat", "শনি"}, {"sun", "রবি"},
+                    {"settings", "সেটিংস"},
+                    {"add_event", "ইভেন্ট যোগ করুন"},
+                    {"edit_event", "ইডিট"},
+                    {"delete_event", "ডিলিট"},
+                    {"event_title", "শিরোনাম"},
+                    {"event_note", "নোট"},
+                    {"category", "ক্যাটাগরি"},
+                    {"close", "বন্ধ করুন"},
+                    {"save", "সেভ"},
+                    {"recurring", "পুনরাবৃত্ত"},
+                    {"reminder", "রিমাইন্ডার"},
+                    {"start_time", "শুরু"},
+                    {"end_time", "শেষ"},
+                    {"invalid_time", "শেষের সময় শুরুর আগে হতে পারবে না।"},
+                    {"conflict_title", "সময়ের সংঘাত"},
+                    {"conflict_text", "এর সাথে সময় মিলে যায়:\n%s\nতবুও সেভ করবেন?"},
+                    {"reminders_open", "রিমাইন্ডার (%d)"},
+                    {"snooze", "৫ মিনিট পরে"},
+                    {"snooze_all", "সব পরে"},
+                    {"dismiss", "বাদ দিন"},
+                    {"dismiss_all", "সব বাদ দিন"},
+                    {"personal", "ব্যক্তিগত"},
+                    {"work", "কাজ"},
+                    {"study", "পড়া"},
+                    {"health", "স্বাস্থ্য"},
+                    {"other", "অন্যান্য"},
+                    {"import_events", "ইমপোর্ট"},
+                    {"export_events", "এক্সপোর্ট"},
+                    {"repeat_none", "পুনরাবৃত্তি নেই"},
+                    {"repeat_daily", "প্রতিদিন"},
+                    {"repeat_weekly", "প্রতি সপ্তাহে"},
+                    {"repeat_biweekly", "প্রতি ২ সপ্তাহে"},
+                    {"repeat_monthly", "প্রতি মাসে"},
+                    {"repeat_monthly_weekday", "প্রতি মাসে একই সপ্তাহের দিনে"},
+                    {"repeat_yearly", "প্রতি বছর"},
+                    {"repeat_custom", "কাস্টম"},
+                    {"skip_day", "এই দিন বাদ দিন"},
+                    {"view_month", "মাস"},
+                    {"view_year", "বছর"},
+                    {"view_agenda", "এজেন্ডা"},
+                    {"view_results", "সব ইভেন্ট"},
+                    {"events_found", "%,dটি ইভেন্ট"},
+                    {"metrics", "পারফরম্যান্স"}
+            };
+        }
+    };
+
+    private Messages() {
+    }
+
+    /** Returns the bundle of a language from {@link #LANGUAGES}; unknown languages get English. */
+    public static ResourceBundle bundle(String language) {
+        return BANGLA.equals(language) ? BANGLA_BUNDLE : ENGLISH_BUNDLE;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.calander.core;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of {@link Probe}s and {@link Counter}s, looked up by name once and kept
+ * in static fields by the code they measure. Names are dotted, e.g. {@code store.getEvents}.
+ */
+public final class Metrics {
+    private static final Map<String, Probe> PROBES = new ConcurrentHashMap<>();
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    public static Probe probe(String name) {
+        return PROBES.computeIfAbsent(name, Probe::new);
+    }
+
+    public static Counter counter(String name) {
+        return COUNTERS.computeIfAbsent(name, Counter::new);
+    }
+
+    /** Every registered probe, sorted by name. */
+    public static List<Probe> probes() {
+        return PROBES.values().stream().sorted(Comparator.comparing(p -> p.name)).toList();
+    }
+
+    public static List<Counter> counters() {
+        return COUNTERS.values().stream().sorted(Comparator.comparing(c -> c.name)).toList();
+    }
+
+    public static void reset() {
+        PROBES.values().forEach(Probe::reset);
+        COUNTERS.values().forEach(Counter::reset);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.calander.core;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Headless model of one month grid: where the first day falls and the category of every dot on
+ * every day. {@link MonthGrid} only binds a layout to its cells, so the layout can be built and
+ * measured without a JavaFX toolkit.
+ */
+public final class MonthLayout {
+    private static final byte[] NO_DOTS = new byte[0];
+    private static final Probe BUILD = Metrics.probe("layout.build");
+
+    public final YearMonth yearMonth;
+    /** Grid cell (0-based, Monday first) of the first day of the month. */
+    public final int firstCell;
+    public final int daysInMonth;
+    /** Day of month that is today, or 0 if today is in another month. */
+    public final int today;
+    private final byte[][] dots;
+    private final byte[] dotCounts;
+    private int scanned;
+
+    private MonthLayout(YearMonth yearMonth, LocalDate today) {
+        this.yearMonth = yearMonth;
+        this.firstCell = yearMonth.atDay(1).getDayOfWeek().getValue() - 1;
+        this.daysInMonth = yearMonth.lengthOfMonth();
+        this.today = YearMonth.from(today).equals(yearMonth) ? today.getDayOfMonth() : 0;
+        this.dots = new byte[daysInMonth + 1][];
+        this.dotCounts = new byte[daysInMonth + 1];
+        Arrays.fill(dots, NO_DOTS);
+    }
+
+    /** Builds the layout of a month with a dot per stored event accepted by {@code filter}. */
+    public static MonthLayout build(YearMonth yearMonth, EventStore store, Predicate<Event> filter) {
+        return build(yearMonth, store, filter, LocalDate.now());
+    }
+
+    public static MonthLayout build(YearMonth yearMonth, EventStore store, Predicate<Event> filter, LocalDate today) {
+        long started = BUILD.start();
+        MonthLayout layout = new MonthLayout(yearMonth, today);
+        store.forEachInMonth(yearMonth.getYear(), yearMonth.getMonthValue(), (day, category, reminder, e) -> {
+            layout.scanned++;
+            if (filter.test(e)) layout.addDot(day, category);
+        });
+        BUILD.stop(started, layout.scanned);
+        return layout;
+    }
+
+    public int dotCount(int day) {
+        return dotCounts[day] & 0xFF;
+    }
+
+    public Category dot(int day, int index) {
+        return Category.of(dots[day][index]);
+    }
+
+    private void addDot(int day, Category category) {
+        int count = dotCounts[day] & 0xFF;
+        if (count == 255) return;
+        byte[] row = dots[day];
+        if (count == row.length) dots[day] = row = Arrays.copyOf(row, Math.max(4, count * 2));
+        row[count] = (byte) category.ordinal();
+        dotCounts[day] = (byte) (count + 1);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.calander.core;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LRU cache of unfiltered {@link MonthLayout}s, so paging back and forth between months reuses
+ * layouts instead of walking the store again. Each hit is checked against the store's
+ * {@link EventStore#monthStamp month stamp} and today's date, so a change to a month's events,
+ * or midnight, rebuilds only the months it affects. After every lookup the neighbouring months
+ * (one month and one year either way) are built ahead on a background thread, so the next step
+ * through the month or year picker is a hit.
+ */
+public final class MonthLayoutCache {
+    private static final Counter HITS = Metrics.counter("layout.cache.hit");
+    private static final Counter MISSES = Metrics.counter("layout.cache.miss");
+
+    private record Entry(MonthLayout layout, long stamp, LocalDate today) {
+    }
+
+    private final EventStore store;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<YearMonth, Entry> entries;
+    private final Set<YearMonth> prefetching = ConcurrentHashMap.newKeySet();
+    private final ExecutorService prefetcher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "calendar-layout-prefetch");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public MonthLayoutCache(EventStore store, int capacity) {
+        this(store, capacity, Clock.systemDefaultZone());
+    }
+
+    public MonthLayoutCache(EventStore store, int capacity, Clock clock) {
+        this.store = store;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /** The month's layout with a dot per stored event; built now on a miss, neighbours built ahead. */
+    public MonthLayout get(YearMonth yearMonth) {
+        LocalDate today = LocalDate.now(clock);
+        MonthLayout layout = cached(yearMonth, today);
+        if (layout != null) {
+            HITS.add(1);
+        } else {
+            MISSES.add(1);
+            layout = build(yearMonth, today);
+        }
+        prefetch(yearMonth.minusMonths(1), today);
+        prefetch(yearMonth.plusMonths(1), today);
+        prefetch(yearMonth.minusYears(1), today);
+        prefetch(yearMonth.plusYears(1), today);
+        return layout;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void shutdown() {
+        prefetcher.shutdownNow();
+    }
+
+    private MonthLayout cached(YearMonth yearMonth, LocalDate today) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(yearMonth);
+            return entry != null && entry.today().equals(today)
+                    && entry.stamp() == store.monthStamp(yearMonth.getYear(), yearMonth.getMonthValue()) ? entry.layout() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Builds and caches a layout; the stamp is read first, so a write during the walk leaves it stale. */
+    private MonthLayout build(YearMonth yearMonth, LocalDate today) {
+        long stamp = store.monthStamp(yearMonth.getYear(), yearMonth.getMonthValue());
+        MonthLayout layout = MonthLayout.build(yearMonth, store, e -> true, today);
+        lock.lock();
+        try {
+            entries.put(yearMonth, new Entry(layout, stamp, today));
+        } finally {
+            lock.unlock();
+        }
+        return layout;
+    }
+
+    private void prefetch(YearMonth yearMonth, LocalDate today) {
+        if (prefetcher.isShutdown() || !prefetching.add(yearMonth)) return;
+        prefetcher.execute(() -> {
+            try {
+                if (cached(yearMonth, today) == null) build(yearMonth, today);
+            } finally {
+                prefetching.remove(yearMonth);
+            }
+        });
+    }
+}
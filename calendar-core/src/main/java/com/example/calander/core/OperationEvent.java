@@ -0,0 +1,35 @@
+package com.example.calander.core;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** JFR event committed by every {@link Probe} while a recording has it enabled. */
+@Name("com.example.calander.Operation")
+@Label("Calendar Operation")
+@jdk.jfr.Category("Calendar")
+@Description("A timed calendar operation such as a render, lookup or reminder check")
+@StackTrace(false)
+final class OperationEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    @Label("Items")
+    @Description("Events scanned, nodes created or results returned, depending on the operation")
+    long items;
+
+    static void commit(String operation, long elapsed, long items) {
+        OperationEvent event = new OperationEvent();
+        if (!event.isEnabled()) return;
+        event.operation = operation;
+        event.elapsed = elapsed;
+        event.items = items;
+        event.commit();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.calander.core;
+
+/**
+ * Times one kind of operation into a {@link LatencyRecorder}, counts the items it touched and
+ * emits an {@link OperationEvent} for JFR. Usage: {@code long t = probe.start(); ...;
+ * probe.stop(t, scanned);}. Cheap enough to stay on in production.
+ */
+public final class Probe {
+    public final String name;
+    private final LatencyRecorder latency = new LatencyRecorder();
+    private final Counter items;
+
+    Probe(String name) {
+        this.name = name;
+        this.items = new Counter(name);
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void stop(long start) {
+        stop(start, 0);
+    }
+
+    public void stop(long start, long count) {
+        long elapsed = System.nanoTime() - start;
+        latency.record(elapsed);
+        items.add(count);
+        OperationEvent.commit(name, elapsed, count);
+    }
+
+    public LatencyRecorder latency() {
+        return latency;
+    }
+
+    /** Items per call: {@link Counter#last()} is the latest call, {@link Counter#total()} all of them. */
+    public Counter items() {
+        return items;
+    }
+
+    public void reset() {
+        latency.reset();
+        items.reset();
+    }
+}
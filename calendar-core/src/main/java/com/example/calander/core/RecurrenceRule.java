@@ -0,0 +1,350 @@
+package com.example.calander.core;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.IntPredicate;
+
+/**
+ * RRULE-style recurrence (FREQ, INTERVAL, BYDAY, COUNT, UNTIL plus EXDATE) expanded lazily for a
+ * date window. Expansion jumps straight to the first period overlapping the window, so its cost
+ * is proportional to the occurrences in the window rather than to the age of the series.
+ * Occurrences are reported as epoch days and never precede the series start.
+ */
+public final class RecurrenceRule {
+    public enum Frequency { DAILY, WEEKLY, MONTHLY, YEARLY }
+
+    /** The legacy "recurring" flag: same month and day every year. */
+    public static final RecurrenceRule YEARLY = new RecurrenceRule(Frequency.YEARLY, 1, new int[0], 0, null, new int[0]);
+
+    private static final int NOT_COMPUTED = Integer.MIN_VALUE;
+    // Bound for resolving COUNT so a rule that never matches cannot loop forever (800 years).
+    private static final int MAX_SPAN_DAYS = 146097 * 2;
+
+    public final Frequency frequency;
+    public final int interval;
+    /** BYDAY entries packed as {@code ordinal * 8 + dayOfWeek}; ordinal 0 means every such weekday. */
+    private final int[] byDay;
+    public final int count;
+    public final LocalDate until;
+    /** Sorted excluded epoch days. */
+    private final int[] exDates;
+    // COUNT-limited series end, computed on first use for the start it was computed with.
+    private int countEndStart = NOT_COMPUTED, countEnd;
+
+    RecurrenceRule(Frequency frequency, int interval, int[] byDay, int count, LocalDate until, int[] exDates) {
+        this.frequency = frequency;
+        this.interval = Math.max(1, interval);
+        this.byDay = byDay;
+        this.count = count;
+        this.until = until;
+        this.exDates = exDates;
+    }
+
+    public static RecurrenceRule of(Frequency frequency, int interval) {
+        return new RecurrenceRule(frequency, interval, new int[0], 0, null, new int[0]);
+    }
+
+    /** Monthly rule on the same weekday ordinal as {@code date}, e.g. "every 2nd Tuesday". */
+    public static RecurrenceRule monthlyByWeekday(LocalDate date, int interval) {
+        int ordinal = (date.getDayOfMonth() - 1) / 7 + 1;
+        return new RecurrenceRule(Frequency.MONTHLY, interval, new int[]{ordinal * 8 + date.getDayOfWeek().getValue()}, 0, null, new int[0]);
+    }
+
+    /**
+     * Parses a rule as written by {@link #toString()}, such as {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE}.
+     * An {@code EXDATE} part with comma-separated {@code yyyyMMdd} dates is accepted as well, and
+     * a yearly BYDAY applies within the start month.
+     *
+     * @throws IllegalArgumentException if the rule has a part this class cannot expand, such as
+     *                                  BYMONTH or BYSETPOS, or a frequency finer than DAILY
+     */
+    public static RecurrenceRule parse(String rule) {
+        return parse(rule, null);
+    }
+
+    /**
+     * Parses an RFC 5545 RRULE of a series starting at {@code start}, e.g. from an imported file.
+     * Besides the parts {@link #parse(String)} accepts, a BYMONTH or BYMONTHDAY that only restates
+     * the start date is allowed, as in {@code FREQ=YEARLY;BYMONTH=11;BYDAY=4TH}. A yearly BYDAY
+     * without BYMONTH counts weekdays across the whole year and is rejected.
+     *
+     * @param start the series start, or null to parse this class's own format
+     * @throws IllegalArgumentException if the rule cannot be expanded exactly
+     */
+    public static RecurrenceRule parse(String rule, LocalDate start) {
+        Frequency frequency = null;
+        int interval = 1, count = 0;
+        int[] byDay = new int[0], exDates = new int[0];
+        LocalDate until = null;
+        String byMonth = null, byMonthDay = null, weekStart = null;
+        for (String part : rule.trim().toUpperCase(Locale.ROOT).split(";")) {
+            if (part.isEmpty()) continue;
+            int eq = part.indexOf('=');
+            if (eq < 0) throw new IllegalArgumentException("Malformed RRULE part " + part);
+            String key = part.substring(0, eq), value = part.substring(eq + 1);
+            switch (key) {
+                case "FREQ": frequency = frequency(value); break;
+                case "INTERVAL": interval = Integer.parseInt(value); break;
+                case "COUNT": count = Integer.parseInt(value); break;
+                case "UNTIL": until = parseDate(value); break;
+                case "BYDAY": byDay = parseByDay(value); break;
+                case "EXDATE": exDates = parseDates(value); break;
+                case "BYMONTH": byMonth = value; break;
+                case "BYMONTHDAY": byMonthDay = value; break;
+                case "WKST": weekStart = value; break;
+                default: throw new IllegalArgumentException("Unsupported RRULE part " + key);
+            }
+        }
+        if (frequency == null) throw new IllegalArgumentException("RRULE without FREQ: " + rule);
+        boolean ordinals = false;
+        for (int entry : byDay) ordinals |= Math.floorDiv(entry, 8) != 0;
+        if (ordinals && (frequency == Frequency.DAILY || frequency == Frequency.WEEKLY)) {
+            throw new IllegalArgumentException("BYDAY ordinals need FREQ=MONTHLY or YEARLY: " + rule);
+        }
+        // Yearly expansion stays in the start month, so a weekday needs BYMONTH to pin it there.
+        if (start != null && frequency == Frequency.YEARLY && byDay.length > 0 && byMonth == null) {
+            throw new IllegalArgumentException("Yearly BYDAY without BYMONTH: " + rule);
+        }
+        if (byMonth != null && (frequency != Frequency.YEARLY || start == null || !byMonth.equals(String.valueOf(start.getMonthValue())))) {
+            throw new IllegalArgumentException("Unsupported BYMONTH: " + rule);
+        }
+        if (byMonthDay != null && (frequency == Frequency.DAILY || frequency == Frequency.WEEKLY || byDay.length > 0
+                || start == null || !byMonthDay.equals(String.valueOf(start.getDayOfMonth())))) {
+            throw new IllegalArgumentException("Unsupported BYMONTHDAY: " + rule);
+        }
+        // Weeks are Monday-based; another week start only matters when it splits a week of several days.
+        if (weekStart != null && !weekStart.equals("MO") && frequency == Frequency.WEEKLY && interval > 1 && byDay.length > 1) {
+            throw new IllegalArgumentException("Unsupported WKST: " + rule);
+        }
+        return new RecurrenceRule(frequency, interval, byDay, count, until, exDates);
+    }
+
+    private static Frequency frequency(String value) {
+        for (Frequency f : Frequency.values()) {
+            if (f.name().equals(value)) return f;
+        }
+        throw new IllegalArgumentException("Unsupported FREQ " + value);
+    }
+
+    public static LocalDate parseDate(String value) {
+        return LocalDate.of(Integer.parseInt(value.substring(0, 4)), Integer.parseInt(value.substring(4, 6)),
+                Integer.parseInt(value.substring(6, 8)));
+    }
+
+    private static int[] parseDates(String value) {
+        String[] parts = value.split(",");
+        int[] days = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) days[i] = (int) parseDate(parts[i].trim()).toEpochDay();
+        Arrays.sort(days);
+        return days;
+    }
+
+    private static int[] parseByDay(String value) {
+        String[] parts = value.split(",");
+        int[] result = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            String p = parts[i].trim();
+            int ordinal = p.length() > 2 ? Integer.parseInt(p.substring(0, p.length() - 2).replace("+", "")) : 0;
+            result[i] = ordinal * 8 + weekday(p.substring(p.length() - 2)).getValue();
+        }
+        return result;
+    }
+
+    private static DayOfWeek weekday(String code) {
+        for (DayOfWeek d : DayOfWeek.values()) {
+            if (d.name().startsWith(code)) return d;
+        }
+        throw new IllegalArgumentException("Unknown weekday " + code);
+    }
+
+    public RecurrenceRule withExDate(LocalDate date) {
+        int day = (int) date.toEpochDay();
+        if (Arrays.binarySearch(exDates, day) >= 0) return this;
+        int[] ex = Arrays.copyOf(exDates, exDates.length + 1);
+        ex[exDates.length] = day;
+        Arrays.sort(ex);
+        return new RecurrenceRule(frequency, interval, byDay, count, until, ex);
+    }
+
+    /** RRULE text without EXDATE, as stored by this class. */
+    public String toRRule() {
+        StringBuilder sb = new StringBuilder("FREQ=").append(frequency);
+        if (interval > 1) sb.append(";INTERVAL=").append(interval);
+        if (byDay.length > 0) {
+            sb.append(";BYDAY=");
+            for (int i = 0; i < byDay.length; i++) {
+                if (i > 0) sb.append(',');
+                int ordinal = Math.floorDiv(byDay[i], 8);
+                if (ordinal != 0) sb.append(ordinal);
+                sb.append(DayOfWeek.of(Math.floorMod(byDay[i], 8)).name(), 0, 2);
+            }
+        }
+        if (count > 0) sb.append(";COUNT=").append(count);
+        if (until != null) sb.append(";UNTIL=").append(compact(until));
+        return sb.toString();
+    }
+
+    /**
+     * RRULE text without EXDATE for a series starting at {@code start}, as written to .ics files.
+     * A yearly BYDAY names its month, which RFC 5545 would otherwise read as the whole year.
+     */
+    public String toRRule(LocalDate start) {
+        String rule = toRRule();
+        return frequency == Frequency.YEARLY && byDay.length > 0 ? rule + ";BYMONTH=" + start.getMonthValue() : rule;
+    }
+
+    public LocalDate[] exDates() {
+        LocalDate[] dates = new LocalDate[exDates.length];
+        for (int i = 0; i < exDates.length; i++) dates[i] = LocalDate.ofEpochDay(exDates[i]);
+        return dates;
+    }
+
+    /** Full rule including EXDATE, as stored by the journal. */
+    @Override
+    public String toString() {
+        if (exDates.length == 0) return toRRule();
+        StringBuilder sb = new StringBuilder(toRRule()).append(";EXDATE=");
+        for (int i = 0; i < exDates.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(compact(LocalDate.ofEpochDay(exDates[i])));
+        }
+        return sb.toString();
+    }
+
+    private static String compact(LocalDate date) {
+        return String.format("%04d%02d%02d", date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /** Last epoch day the series can produce, or {@link Integer#MAX_VALUE} if it is unbounded. */
+    public int lastDay(LocalDate start) {
+        int last = until == null ? Integer.MAX_VALUE : (int) until.toEpochDay();
+        if (count > 0) last = Math.min(last, countEnd(start));
+        return last;
+    }
+
+    private synchronized int countEnd(LocalDate start) {
+        int startDay = (int) start.toEpochDay();
+        if (countEndStart != startDay) {
+            int[] seen = {0, startDay};
+            expand(start, startDay, startDay + MAX_SPAN_DAYS, day -> {
+                if (day > startDay + MAX_SPAN_DAYS) return false;
+                seen[1] = day;
+                return ++seen[0] < count;
+            });
+            countEnd = seen[1];
+            countEndStart = startDay;
+        }
+        return countEnd;
+    }
+
+    /**
+     * Visits the occurrences of a series starting at {@code start} that fall in {@code [from, to]}
+     * (epoch days, inclusive), in ascending order, until the visitor returns false.
+     */
+    public void forEachOccurrence(LocalDate start, int from, int to, IntPredicate visitor) {
+        int startDay = (int) start.toEpochDay();
+        int last = lastDay(start);
+        from = Math.max(from, startDay);
+        to = Math.min(to, last);
+        if (from > to) return;
+        int lo = from, hi = to;
+        expand(start, lo, hi, day -> day <= hi && (Arrays.binarySearch(exDates, day) >= 0 || visitor.test(day)));
+    }
+
+    /** Raw expansion ignoring COUNT, UNTIL and EXDATE; the visitor may see days past {@code to}. */
+    private void expand(LocalDate start, int from, int to, IntPredicate visitor) {
+        int startDay = (int) start.toEpochDay();
+        switch (frequency) {
+            case DAILY: {
+                long k = from <= startDay ? 0 : ceilDiv(from - startDay, interval);
+                for (long day = startDay + k * interval; day <= to; day += interval) {
+                    if (byDay.length > 0 && !matchesWeekday((int) day)) continue;
+                    if (!visitor.test((int) day)) return;
+                }
+                break;
+            }
+            case WEEKLY: {
+                int startWeek = startDay - weekdayIndex(startDay);
+                long k = from <= startWeek ? 0 : (from - startWeek) / (7L * interval);
+                int mask = byDay.length == 0 ? 1 << weekdayIndex(startDay) : weekdayMask();
+                for (long week = startWeek + k * 7L * interval; week <= to; week += 7L * interval) {
+                    for (int d = 0; d < 7; d++) {
+                        long day = week + d;
+                        if ((mask & (1 << d)) == 0 || day < startDay || day < from) continue;
+                        if (day > to || !visitor.test((int) day)) return;
+                    }
+                }
+                break;
+            }
+            case MONTHLY: {
+                long startMonth = start.getYear() * 12L + start.getMonthValue() - 1;
+                LocalDate fromDate = LocalDate.ofEpochDay(from);
+                long fromMonth = fromDate.getYear() * 12L + fromDate.getMonthValue() - 1;
+                long k = fromMonth <= startMonth ? 0 : ceilDiv(fromMonth - startMonth, interval);
+                for (long m = startMonth + k * interval; ; m += interval) {
+                    YearMonth ym = YearMonth.of((int) Math.floorDiv(m, 12), (int) Math.floorMod(m, 12) + 1);
+                    if (ym.atDay(1).toEpochDay() > to) return;
+                    if (!visitMonth(ym, start.getDayOfMonth(), startDay, from, visitor)) return;
+                }
+            }
+            case YEARLY: {
+                int fromYear = LocalDate.ofEpochDay(from).getYear();
+                long k = fromYear <= start.getYear() ? 0 : ceilDiv(fromYear - start.getYear(), interval);
+                for (long y = start.getYear() + k * interval; ; y += interval) {
+                    YearMonth ym = YearMonth.of((int) y, start.getMonthValue());
+                    if (ym.atDay(1).toEpochDay() > to) return;
+                    if (!visitMonth(ym, start.getDayOfMonth(), startDay, from, visitor)) return;
+                }
+            }
+        }
+    }
+
+    private boolean visitMonth(YearMonth ym, int dayOfMonth, int startDay, int from, IntPredicate visitor) {
+        int first = (int) ym.atDay(1).toEpochDay(), length = ym.lengthOfMonth();
+        if (byDay.length == 0) {
+            if (dayOfMonth > length) return true;
+            int day = first + dayOfMonth - 1;
+            return day < startDay || day < from || visitor.test(day);
+        }
+        int firstWeekday = weekdayIndex(first);
+        for (int d = 0; d < length; d++) {
+            int day = first + d;
+            if (day < startDay || day < from || !matchesInMonth(d, (firstWeekday + d) % 7, length)) continue;
+            if (!visitor.test(day)) return false;
+        }
+        return true;
+    }
+
+    private boolean matchesInMonth(int dayIndex, int weekday, int length) {
+        for (int entry : byDay) {
+            if (Math.floorMod(entry, 8) - 1 != weekday) continue;
+            int ordinal = Math.floorDiv(entry, 8);
+            if (ordinal == 0) return true;
+            if (ordinal > 0 && dayIndex / 7 + 1 == ordinal) return true;
+            if (ordinal < 0 && (length - 1 - dayIndex) / 7 + 1 == -ordinal) return true;
+        }
+        return false;
+    }
+
+    private boolean matchesWeekday(int day) {
+        return (weekdayMask() & (1 << weekdayIndex(day))) != 0;
+    }
+
+    private int weekdayMask() {
+        int mask = 0;
+        for (int entry : byDay) mask |= 1 << (Math.floorMod(entry, 8) - 1);
+        return mask;
+    }
+
+    /** Monday-based weekday index (0..6) of an epoch day; 1970-01-01 was a Thursday. */
+    private static int weekdayIndex(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+
+    private static long ceilDiv(long a, long b) {
+        return -Math.floorDiv(-a, b);
+    }
+}
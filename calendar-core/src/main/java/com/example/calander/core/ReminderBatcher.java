@@ -0,0 +1,156 @@
+package com.example.calander.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Groups due reminders into notifications. Reminders enter a bounded queue; a daemon thread
+ * collects everything arriving within one window into a single batch and hands it to the
+ * delivery thread, with at most one batch outstanding there. A burst of reminders thus costs the
+ * UI one update per window, and a producer that outruns delivery blocks on the full queue
+ * instead of piling up tasks on the delivery thread.
+ * <p>
+ * A delivered reminder stays open until it is dismissed or snoozed. A snoozed reminder comes
+ * back after its delay; one left open past the escalation delay is delivered once more, marked
+ * as escalated.
+ */
+public class ReminderBatcher implements AutoCloseable {
+    private static final Probe DELIVER = Metrics.probe("reminders.deliver");
+
+    /** One reminder in a batch; {@code escalated} if it was delivered before and is still open. */
+    public record Notification(Event event, boolean escalated) {
+    }
+
+    private final Consumer<List<Notification>> deliver;
+    private final Executor deliveryExecutor;
+    private final BlockingQueue<Notification> queue;
+    private final long windowMillis;
+    private final Duration escalateAfter;
+    private final Semaphore outstanding = new Semaphore(1);
+    // Open reminders by event, mapped to the delivery that opened them; escalation checks the token.
+    private final Map<Event, Long> open = new ConcurrentHashMap<>();
+    private final AtomicLong deliveries = new AtomicLong();
+    private final ScheduledExecutorService timers = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "calendar-reminder-timers");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * @param deliver          receives each batch, in due order
+     * @param deliveryExecutor thread {@code deliver} runs on, e.g. {@code Platform::runLater}
+     * @param capacity         reminders the queue holds before {@link #offer} blocks
+     * @param window           how long a batch stays open for reminders due right after its first
+     * @param escalateAfter    delay before an open reminder is delivered again as escalated, or null
+     */
+    public ReminderBatcher(Consumer<List<Notification>> deliver, Executor deliveryExecutor, int capacity,
+                           Duration window, Duration escalateAfter) {
+        this.deliver = deliver;
+        this.deliveryExecutor = deliveryExecutor;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.windowMillis = window.toMillis();
+        this.escalateAfter = escalateAfter;
+        this.thread = new Thread(this::run, "calendar-reminder-batches");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues a due reminder, blocking while the queue is full. Suits a {@link ReminderScheduler}
+     * callback run with {@code Runnable::run}; the scheduler delivers outside its lock.
+     */
+    public void offer(Event e) {
+        enqueue(new Notification(e, false));
+    }
+
+    /** Closes the reminder and delivers it again after {@code delay}. */
+    public void snooze(Event e, Duration delay) {
+        open.remove(e);
+        timers.schedule(() -> offer(e), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /** Closes the reminder; it is not escalated. */
+    public void dismiss(Event e) {
+        open.remove(e);
+    }
+
+    /** Reminders waiting to be batched. */
+    public int queued() {
+        return queue.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        thread.interrupt();
+        timers.shutdownNow();
+    }
+
+    private void enqueue(Notification n) {
+        try {
+            queue.put(n);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        // Keyed by event so a reminder snoozed or escalated into the same batch shows once.
+        Map<Event, Notification> batch = new LinkedHashMap<>();
+        try {
+            while (running) {
+                Notification first = queue.take();
+                batch.put(first.event(), first);
+                long deadline = System.currentTimeMillis() + windowMillis;
+                for (long wait = windowMillis; wait > 0; wait = deadline - System.currentTimeMillis()) {
+                    Notification n = queue.poll(wait, TimeUnit.MILLISECONDS);
+                    if (n == null) break;
+                    batch.merge(n.event(), n, (a, b) -> a.escalated() ? a : b);
+                }
+                // Anything due while the previous batch is still being shown joins this one.
+                outstanding.acquire();
+                for (Notification n; (n = queue.poll()) != null; ) batch.merge(n.event(), n, (a, b) -> a.escalated() ? a : b);
+                List<Notification> delivered = new ArrayList<>(batch.values());
+                batch.clear();
+                long started = DELIVER.start();
+                for (Notification n : delivered) track(n);
+                deliveryExecutor.execute(() -> {
+                    try {
+                        deliver.accept(delivered);
+                    } finally {
+                        outstanding.release();
+                        DELIVER.stop(started, delivered.size());
+                    }
+                });
+            }
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Opens the reminder and, unless it is already escalated, arms its escalation. */
+    private void track(Notification n) {
+        long token = deliveries.incrementAndGet();
+        open.put(n.event(), token);
+        if (escalateAfter == null || n.escalated()) return;
+        timers.schedule(() -> {
+            Long current = open.get(n.event());
+            if (current != null && current == token) enqueue(new Notification(n.event(), true));
+        }, escalateAfter.toMillis(), TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.calander.core;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Fires event reminders at their exact instant. Upcoming reminders live in a priority queue and a
+ * single daemon thread sleeps until the head is due; adding, editing or removing an event only
+ * re-arms that event's entry. Recurring events are re-queued for their next occurrence after
+ * they fire. Reminders are handed to the delivery executor without the lock held, so an executor
+ * that blocks, such as a full {@link ReminderBatcher}, never stalls callers of {@link #schedule}.
+ */
+public class ReminderScheduler {
+    private static final int MAX_DAYS_AHEAD = 8 * 366;
+    private static final Probe FIRE = Metrics.probe("reminders.fire");
+
+    private static final class Entry implements Comparable<Entry> {
+        final long dueMillis;
+        final Event event;
+        boolean cancelled;
+
+        Entry(long dueMillis, Event event) {
+            this.dueMillis = dueMillis;
+            this.event = event;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            return Long.compare(dueMillis, o.dueMillis);
+        }
+    }
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private final Map<Event, Entry> armed = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Consumer<Event> onDue;
+    private final Executor deliveryExecutor;
+    private final Clock clock;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    /**
+     * @param onDue            invoked once per due reminder
+     * @param deliveryExecutor thread {@code onDue} runs on, e.g. {@code Platform::runLater}
+     */
+    public ReminderScheduler(Consumer<Event> onDue, Executor deliveryExecutor) {
+        this(onDue, deliveryExecutor, Clock.systemDefaultZone());
+    }
+
+    public ReminderScheduler(Consumer<Event> onDue, Executor deliveryExecutor, Clock clock) {
+        this.onDue = onDue;
+        this.deliveryExecutor = deliveryExecutor;
+        this.clock = clock;
+        this.thread = new Thread(this::run, "calendar-reminders");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Arms or re-arms the reminder of an added or edited event. */
+    public void schedule(Event e) {
+        lock.lock();
+        try {
+            disarm(e);
+            long due = nextDue(e, clock.millis());
+            if (due < 0) return;
+            Entry entry = new Entry(due, e);
+            armed.put(e, entry);
+            queue.add(entry);
+            if (queue.peek() == entry) changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void cancel(Event e) {
+        lock.lock();
+        try {
+            disarm(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return armed.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        thread.interrupt();
+    }
+
+    private void disarm(Event e) {
+        Entry previous = armed.remove(e);
+        if (previous != null) previous.cancelled = true;
+    }
+
+    private void run() {
+        List<Event> due = new ArrayList<>();
+        lock.lock();
+        try {
+            while (running) {
+                Entry head = queue.peek();
+                if (head != null && head.cancelled) {
+                    queue.poll();
+                    continue;
+                }
+                if (head == null) {
+                    changed.await();
+                    continue;
+                }
+                long now = clock.millis();
+                long wait = head.dueMillis - now;
+                if (wait > 0) {
+                    changed.await(wait, TimeUnit.MILLISECONDS);
+                    continue;
+                }
+                long started = FIRE.start();
+                // Take every reminder due by now in one pass; same-minute bursts are common.
+                while ((head = queue.peek()) != null && (head.cancelled || head.dueMillis <= now)) {
+                    queue.poll();
+                    if (head.cancelled) continue;
+                    armed.remove(head.event);
+                    due.add(head.event);
+                    if (head.event.isRecurring()) {
+                        // Re-arm from now, so a series missed while asleep fires once, not once per occurrence.
+                        long next = nextDue(head.event, Math.max(head.dueMillis, now) + 1);
+                        if (next >= 0) {
+                            Entry entry = new Entry(next, head.event);
+                            armed.put(head.event, entry);
+                            queue.add(entry);
+                        }
+                    }
+                }
+                FIRE.stop(started, due.size());
+                // Deliver unlocked: a delivery executor that blocks must not hold up schedule().
+                lock.unlock();
+                try {
+                    for (Event e : due) deliveryExecutor.execute(() -> onDue.accept(e));
+                } finally {
+                    due.clear();
+                    lock.lock();
+                }
+            }
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Returns the first reminder instant at or after {@code fromMillis}, or -1 if there is none. */
+    private long nextDue(Event e, long fromMillis) {
+        LocalTime time = e.reminderTime();
+        if (time == null) return -1;
+        ZoneId zone = clock.getZone();
+        if (!e.isRecurring()) {
+            long due = e.date().atTime(time).atZone(zone).toInstant().toEpochMilli();
+            return due >= fromMillis ? due : -1;
+        }
+        int fromDay = (int) Instant.ofEpochMilli(fromMillis).atZone(zone).toLocalDate().toEpochDay();
+        long[] due = {-1};
+        e.recurrence.forEachOccurrence(e.date(), fromDay, fromDay + MAX_DAYS_AHEAD, day -> {
+            long millis = LocalDate.ofEpochDay(day).atTime(time).atZone(zone).toInstant().toEpochMilli();
+            if (millis < fromMillis) return true;
+            due[0] = millis;
+            return false;
+        });
+        return due[0];
+    }
+}
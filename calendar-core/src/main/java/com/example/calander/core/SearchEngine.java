@@ -0,0 +1,55 @@
+package com.example.calander.core;
+
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Debounced search over a {@link SearchIndex}. Queries run on a background thread and only the
+ * newest one is published; stale results are dropped before they reach the publisher.
+ */
+public class SearchEngine {
+    private static final Probe QUERY = Metrics.probe("search.query");
+
+    private final SearchIndex index;
+    private final long debounceMillis;
+    private final Consumer<Set<Event>> publisher;
+    private final Executor publishExecutor;
+    private final AtomicLong generation = new AtomicLong();
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "calendar-search");
+        t.setDaemon(true);
+        return t;
+    });
+    private ScheduledFuture<?> pending;
+
+    /**
+     * @param publisher       receives the hits of the newest query, or null when the query is empty
+     * @param publishExecutor thread the publisher runs on, e.g. {@code Platform::runLater}
+     */
+    public SearchEngine(SearchIndex index, long debounceMillis, Consumer<Set<Event>> publisher, Executor publishExecutor) {
+        this.index = index;
+        this.debounceMillis = debounceMillis;
+        this.publisher = publisher;
+        this.publishExecutor = publishExecutor;
+    }
+
+    public synchronized void submit(String query) {
+        long gen = generation.incrementAndGet();
+        if (pending != null) pending.cancel(false);
+        pending = worker.schedule(() -> {
+            if (gen != generation.get()) return;
+            long started = QUERY.start();
+            Set<Event> hits = index.query(query);
+            QUERY.stop(started, hits == null ? 0 : hits.size());
+            publishExecutor.execute(() -> {
+                if (gen == generation.get()) publisher.accept(hits);
+            });
+        }, query == null || query.isBlank() ? 0 : debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.calander.core;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram index over the normalized title and note of every event. Queries of three or more
+ * characters intersect posting sets and verify the survivors; shorter queries fall back to a
+ * scan of the precomputed normalized text, so no per-event strings are allocated either way.
+ */
+public class SearchIndex {
+    private final Map<Event, String> documents = new HashMap<>();
+    private final Map<Long, Set<Event>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    public void add(Event e) {
+        String doc = normalize(e.title) + '\n' + normalize(e.note);
+        lock.writeLock().lock();
+        try {
+            String previous = documents.put(e, doc);
+            if (previous != null) unpost(e, previous);
+            for (int i = 0; i + 3 <= doc.length(); i++) {
+                postings.computeIfAbsent(trigram(doc, i), k -> new HashSet<>()).add(e);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addAll(Collection<Event> batch) {
+        for (Event e : batch) add(e);
+    }
+
+    /** Re-indexes an event whose title or note changed. */
+    public void update(Event e) {
+        add(e);
+    }
+
+    public void remove(Event e) {
+        lock.writeLock().lock();
+        try {
+            String previous = documents.remove(e);
+            if (previous != null) unpost(e, previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Returns every event whose title or note contains the query, or null for an empty query. */
+    public Set<Event> query(String text) {
+        String q = normalize(text);
+        if (q.isEmpty()) return null;
+        lock.readLock().lock();
+        try {
+            Set<Event> result = new HashSet<>();
+            if (q.length() < 3) {
+                for (Map.Entry<Event, String> doc : documents.entrySet()) {
+                    if (doc.getValue().contains(q)) result.add(doc.getKey());
+                }
+                return result;
+            }
+            Set<Event> smallest = null;
+            for (int i = 0; i + 3 <= q.length(); i++) {
+                Set<Event> posting = postings.get(trigram(q, i));
+                if (posting == null) return result;
+                if (smallest == null || posting.size() < smallest.size()) smallest = posting;
+            }
+            for (Event e : smallest) {
+                if (documents.get(e).contains(q)) result.add(e);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unpost(Event e, String doc) {
+        for (int i = 0; i + 3 <= doc.length(); i++) {
+            Long key = trigram(doc, i);
+            Set<Event> posting = postings.get(key);
+            if (posting != null && posting.remove(e) && posting.isEmpty()) postings.remove(key);
+        }
+    }
+
+    private static long trigram(String s, int i) {
+        return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+    }
+}
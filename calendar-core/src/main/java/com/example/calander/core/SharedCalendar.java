@@ -0,0 +1,240 @@
+package com.example.calander.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static com.example.calander.core.SharedSnapshot.*;
+
+/**
+ * Read-only view of the calendar a running app publishes with {@link SnapshotPublisher}, for
+ * dashboards and report jobs in other JVMs. The snapshot file is memory-mapped: every process
+ * shares the same page-cache copy, and day queries read the day index and records in place.
+ * Strings are only decoded when a row's text is asked for. Safe for concurrent readers;
+ * {@link #refresh()} swaps in a newer publication atomically.
+ */
+public final class SharedCalendar {
+    private final Path directory;
+    private volatile Mapping mapping;
+
+    private SharedCalendar(Path directory, Mapping mapping) {
+        this.directory = directory;
+        this.mapping = mapping;
+    }
+
+    /** Maps the latest snapshot published to {@code directory}. */
+    public static SharedCalendar open(Path directory) throws IOException {
+        long generation = currentGeneration(directory);
+        if (generation == 0) throw new IOException("No calendar snapshot published in " + directory);
+        return new SharedCalendar(directory, Mapping.map(directory, generation));
+    }
+
+    /** Maps a newer publication if there is one; returns whether the view changed. */
+    public boolean refresh() throws IOException {
+        long latest = currentGeneration(directory);
+        if (latest == mapping.generation) return false;
+        mapping = Mapping.map(directory, latest);
+        return true;
+    }
+
+    public long generation() {
+        return mapping.generation;
+    }
+
+    /** Number of one-off events plus recurring series. */
+    public int size() {
+        Mapping m = mapping;
+        return m.events + m.series;
+    }
+
+    /** Occurrences on the day, series included, without decoding any event. */
+    public int countOnDay(int year, int month, int day) {
+        Mapping m = mapping;
+        int count = 0;
+        int slot = EventStore.epochDay(year, month, day) - m.firstDay;
+        if (slot >= 0 && slot < m.dayCount) {
+            count = m.buf.getInt((int) (m.indexOffset + 4L * (slot + 1))) - m.buf.getInt((int) (m.indexOffset + 4L * slot));
+        }
+        return m.series == 0 ? count : count + m.seriesOnDays(year, month)[day].length;
+    }
+
+    /**
+     * Visits the one-off events and series occurrences of a day. The row is a reusable cursor
+     * valid only during the callback.
+     */
+    public void forEachOnDay(int year, int month, int day, Consumer<Row> visitor) {
+        Mapping m = mapping;
+        Row row = new Row(m);
+        int epochDay = EventStore.epochDay(year, month, day);
+        int slot = epochDay - m.firstDay;
+        if (slot >= 0 && slot < m.dayCount) {
+            int from = m.buf.getInt((int) (m.indexOffset + 4L * slot));
+            int to = m.buf.getInt((int) (m.indexOffset + 4L * (slot + 1)));
+            for (int i = from; i < to; i++) visitor.accept(row.at(i));
+        }
+        if (m.series == 0) return;
+        for (int seriesIndex : m.seriesOnDays(year, month)[day]) visitor.accept(row.at(m.events + seriesIndex));
+    }
+
+    /** Cursor over one record of a mapped snapshot. */
+    public static final class Row {
+        private final Mapping m;
+        private int at;
+
+        private Row(Mapping m) {
+            this.m = m;
+        }
+
+        private Row at(int record) {
+            this.at = (int) (m.recordsOffset + (long) RECORD_BYTES * record);
+            return this;
+        }
+
+        public long id() {
+            return m.buf.getLong(at + R_ID);
+        }
+
+        int packedDate() {
+            return m.buf.getInt(at + R_DATE);
+        }
+
+        /** Start date of the event or series. */
+        public LocalDate date() {
+            int date = packedDate();
+            return LocalDate.of(date >> 9, (date >> 5) & 0xF, date & 0x1F);
+        }
+
+        public Category category() {
+            return Category.of(m.buf.get(at + R_CATEGORY));
+        }
+
+        /** Minute of day of the reminder, or -1 without one. */
+        public int reminderMinute() {
+            return m.buf.getShort(at + R_REMINDER);
+        }
+
+        /** Minute of day the event starts, or -1 for an all-day event. */
+        public int startMinute() {
+            return m.buf.getShort(at + R_START);
+        }
+
+        /** Minute of day the event ends, exclusive and at most 1440, or -1 for an all-day event. */
+        public int endMinute() {
+            return m.buf.getShort(at + R_END);
+        }
+
+        public boolean isAllDay() {
+            return startMinute() < 0;
+        }
+
+        public boolean isRecurring() {
+            return (m.buf.get(at + R_FLAGS) & FLAG_RECURRING) != 0;
+        }
+
+        public String title() {
+            return m.string(at + R_TITLE);
+        }
+
+        public String note() {
+            return m.string(at + R_NOTE);
+        }
+
+        /** The RRULE of a series, or null for a one-off event. */
+        public String rule() {
+            return isRecurring() ? m.string(at + R_RULE) : null;
+        }
+    }
+
+    private record Series(RecurrenceRule rule, LocalDate start) {
+    }
+
+    private static final class Mapping {
+        private static final int CACHED_MONTHS = 36;
+        private static final int[] NONE = new int[0];
+
+        final ByteBuffer buf;
+        final long generation, indexOffset, recordsOffset, heapOffset;
+        final int firstDay, dayCount, events, series;
+        // Parsed on first use; racing readers may parse the same rule twice, which is harmless.
+        private final Series[] parsed;
+        // Series occurring on each day of recently queried months, keyed by year << 4 | month.
+        private final Map<Integer, int[][]> months = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, int[][]> eldest) {
+                return size() > CACHED_MONTHS;
+            }
+        };
+
+        private Mapping(ByteBuffer buf) throws IOException {
+            if (buf.getInt(0) != MAGIC) throw new IOException("Not a calendar snapshot");
+            if (buf.getInt(4) != VERSION) throw new IOException("Unsupported calendar snapshot version " + buf.getInt(4));
+            this.buf = buf;
+            this.generation = buf.getLong(H_GENERATION);
+            this.firstDay = buf.getInt(H_FIRST_DAY);
+            this.dayCount = buf.getInt(H_DAY_COUNT);
+            this.events = buf.getInt(H_EVENTS);
+            this.series = buf.getInt(H_SERIES);
+            this.indexOffset = buf.getLong(H_INDEX);
+            this.recordsOffset = buf.getLong(H_RECORDS);
+            this.heapOffset = buf.getLong(H_HEAP);
+            this.parsed = new Series[series];
+        }
+
+        static Mapping map(Path directory, long generation) throws IOException {
+            try (FileChannel ch = FileChannel.open(directory.resolve(fileName(generation)))) {
+                return new Mapping(ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+            }
+        }
+
+        /** Indices of the series occurring on each day of the month, expanded once per month. */
+        int[][] seriesOnDays(int year, int month) {
+            int key = (year << 4) | month;
+            synchronized (months) {
+                int[][] days = months.get(key);
+                if (days != null) return days;
+            }
+            YearMonth ym = YearMonth.of(year, month);
+            int first = (int) ym.atDay(1).toEpochDay(), last = first + ym.lengthOfMonth() - 1;
+            int[][] days = new int[ym.lengthOfMonth() + 1][];
+            int[] counts = new int[days.length];
+            Arrays.fill(days, NONE);
+            Row row = new Row(this);
+            for (int i = 0; i < series; i++) {
+                Series s = parsed[i];
+                if (s == null) {
+                    row.at(events + i);
+                    parsed[i] = s = new Series(RecurrenceRule.parse(row.rule()), row.date());
+                }
+                if (s.start().toEpochDay() > last) continue;
+                int seriesIndex = i;
+                s.rule().forEachOccurrence(s.start(), first, last, day -> {
+                    int d = day - first + 1;
+                    if (counts[d] == days[d].length) days[d] = Arrays.copyOf(days[d], Math.max(4, counts[d] * 2));
+                    days[d][counts[d]++] = seriesIndex;
+                    return true;
+                });
+            }
+            for (int d = 1; d < days.length; d++) if (counts[d] != days[d].length) days[d] = Arrays.copyOf(days[d], counts[d]);
+            synchronized (months) {
+                months.put(key, days);
+            }
+            return days;
+        }
+
+        String string(int slot) {
+            int length = buf.getInt(slot + 4);
+            if (length == 0) return "";
+            byte[] utf8 = new byte[length];
+            buf.get((int) (heapOffset + buf.getInt(slot)), utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.calander.core;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * File format of the read-only snapshot shared with other processes, and its writer.
+ * <p>
+ * Layout: a 64-byte header, a day index of {@code dayCount + 1} ints, fixed 48-byte records and
+ * a UTF-8 string heap. Start and end are minutes of the day, both -1 for an all-day event. One-off events come first, sorted by date, so the events of a day are the
+ * record range {@code index[day] .. index[day + 1]}; recurring series follow. Equal strings,
+ * such as repeated titles, are stored once.
+ * <p>
+ * Each publication is written to its own generation file and announced by atomically replacing
+ * a small pointer file, so readers keep a consistent mapping of the generation they opened.
+ */
+final class SharedSnapshot {
+    static final int MAGIC = 0x4C475348; // "LGSH"
+    // Version 2 added the start and end minutes to every record.
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 64;
+    static final int RECORD_BYTES = 48;
+    static final byte FLAG_RECURRING = 1;
+    static final String POINTER = "shared.current";
+
+    // Header fields.
+    static final int H_GENERATION = 8, H_FIRST_DAY = 16, H_DAY_COUNT = 20, H_EVENTS = 24, H_SERIES = 28,
+            H_INDEX = 32, H_RECORDS = 40, H_HEAP = 48, H_HEAP_LENGTH = 56;
+    // Record fields.
+    static final int R_ID = 0, R_DATE = 8, R_REMINDER = 12, R_CATEGORY = 14, R_FLAGS = 15,
+            R_TITLE = 16, R_NOTE = 24, R_RULE = 32, R_START = 40, R_END = 42;
+
+    private SharedSnapshot() {
+    }
+
+    static String fileName(long generation) {
+        return "shared-" + generation + ".cal";
+    }
+
+    /** Returns the generation the pointer file announces, or 0 if nothing was published yet. */
+    static long currentGeneration(Path directory) throws IOException {
+        Path pointer = directory.resolve(POINTER);
+        if (!Files.exists(pointer)) return 0;
+        return Long.parseLong(Files.readString(pointer).trim());
+    }
+
+    /** Writes a generation file, then points readers at it and removes generations they can no longer open. */
+    static void publish(Path directory, long generation, Collection<Event> events) throws IOException {
+        Path file = directory.resolve(fileName(generation));
+        write(file, generation, events);
+        Path tmp = directory.resolve(POINTER + ".tmp");
+        Files.writeString(tmp, Long.toString(generation));
+        Files.move(tmp, directory.resolve(POINTER), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // Readers may still map the previous generation; anything older is unreachable.
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "shared-*.cal")) {
+            for (Path old : files) {
+                String name = old.getFileName().toString();
+                if (Long.parseLong(name.substring(7, name.length() - 4)) >= generation - 1) continue;
+                try {
+                    Files.delete(old);
+                } catch (IOException ignored) {
+                    // Still mapped on a platform that forbids deleting mapped files; retried next time.
+                }
+            }
+        }
+    }
+
+    private static void write(Path file, long generation, Collection<Event> events) throws IOException {
+        List<Event> oneOffs = new ArrayList<>(events.size()), series = new ArrayList<>();
+        for (Event e : events) (e.isRecurring() ? series : oneOffs).add(e);
+        SortedEvents sorted = SortedEvents.byDate(oneOffs);
+        int firstDay = 0, dayCount = 0;
+        if (sorted.size() > 0) {
+            firstDay = epochDay(sorted.get(0));
+            dayCount = epochDay(sorted.get(sorted.size() - 1)) - firstDay + 1;
+        }
+        int[] dayStarts = new int[dayCount + 1];
+        int previousDate = -1, slot = -1;
+        for (int i = 0; i < sorted.size(); i++) {
+            int date = sorted.get(i).packedDate();
+            if (date != previousDate) {
+                int next = epochDay(sorted.get(i)) - firstDay;
+                while (slot < next) dayStarts[++slot] = i;
+                previousDate = date;
+            }
+        }
+        while (slot < dayCount) dayStarts[++slot] = sorted.size();
+
+        Heap heap = new Heap();
+        int records = sorted.size() + series.size();
+        int[] strings = new int[records * 6];
+        for (int i = 0; i < records; i++) {
+            Event e = i < sorted.size() ? sorted.get(i) : series.get(i - sorted.size());
+            heap.add(e.title, strings, i * 6);
+            heap.add(e.note, strings, i * 6 + 2);
+            heap.add(e.isRecurring() ? e.recurrence.toString() : null, strings, i * 6 + 4);
+        }
+
+        long indexOffset = HEADER_BYTES;
+        long recordsOffset = indexOffset + 4L * (dayCount + 1);
+        long heapOffset = recordsOffset + (long) RECORD_BYTES * records;
+        long size = heapOffset + heap.length;
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, CREATE, TRUNCATE_EXISTING, READ, WRITE)) {
+            MappedByteBuffer out = ch.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            out.putInt(0, MAGIC).putInt(4, VERSION).putLong(H_GENERATION, generation)
+                    .putInt(H_FIRST_DAY, firstDay).putInt(H_DAY_COUNT, dayCount)
+                    .putInt(H_EVENTS, sorted.size()).putInt(H_SERIES, series.size())
+                    .putLong(H_INDEX, indexOffset).putLong(H_RECORDS, recordsOffset)
+                    .putLong(H_HEAP, heapOffset).putLong(H_HEAP_LENGTH, heap.length);
+            for (int day = 0; day <= dayCount; day++) out.putInt((int) (indexOffset + 4L * day), dayStarts[day]);
+            for (int i = 0; i < records; i++) {
+                Event e = i < sorted.size() ? sorted.get(i) : series.get(i - sorted.size());
+                int at = (int) (recordsOffset + (long) RECORD_BYTES * i);
+                out.putLong(at + R_ID, e.id).putInt(at + R_DATE, e.packedDate())
+                        .putShort(at + R_REMINDER, (short) e.reminderMinute())
+                        .put(at + R_CATEGORY, (byte) e.category.ordinal())
+                        .put(at + R_FLAGS, e.isRecurring() ? FLAG_RECURRING : 0)
+                        .putShort(at + R_START, (short) e.startMinute()).putShort(at + R_END, (short) e.endMinute());
+                for (int s = 0; s < 6; s++) out.putInt(at + R_TITLE + 4 * s, strings[i * 6 + s]);
+            }
+            out.put((int) heapOffset, heap.bytes, 0, heap.length);
+            out.force();
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static int epochDay(Event e) {
+        return EventStore.epochDay(e.year(), e.month(), e.day());
+    }
+
+    /** UTF-8 string heap; each distinct string is stored once. */
+    private static final class Heap {
+        private final Map<String, int[]> offsets = new HashMap<>();
+        private byte[] bytes = new byte[1 << 16];
+        private int length;
+
+        /** Stores offset and byte length of {@code s} at {@code slots[at]} and {@code slots[at + 1]}. */
+        void add(String s, int[] slots, int at) {
+            if (s == null || s.isEmpty()) return;
+            int[] span = offsets.get(s);
+            if (span == null) {
+                byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+                if (length + utf8.length > bytes.length) bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + utf8.length));
+                System.arraycopy(utf8, 0, bytes, length, utf8.length);
+                span = new int[]{length, utf8.length};
+                offsets.put(s, span);
+                length += utf8.length;
+            }
+            slots[at] = span[0];
+            slots[at + 1] = span[1];
+        }
+    }
+}
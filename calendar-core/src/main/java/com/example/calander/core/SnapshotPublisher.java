@@ -0,0 +1,73 @@
+package com.example.calander.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Publishes the calendar as a {@link SharedCalendar} snapshot after changes. Bursts of changes
+ * are coalesced: one publication runs {@code debounceMillis} after the first change of a burst.
+ * The event list is taken on the thread that owns the store and written on a background thread.
+ */
+public class SnapshotPublisher {
+    private final Path directory;
+    private final Supplier<Collection<Event>> source;
+    private final Executor sourceExecutor;
+    private final long debounceMillis;
+    private final ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "calendar-snapshot");
+        t.setDaemon(true);
+        return t;
+    });
+    private long generation;
+    private boolean scheduled;
+
+    /**
+     * @param source         returns a fresh list of every event, e.g. {@code engine::all}
+     * @param sourceExecutor thread {@code source} runs on; {@code Runnable::run} calls a thread-safe
+     *                       source such as {@code engine::all} on the publisher thread itself
+     */
+    public SnapshotPublisher(Path directory, Supplier<Collection<Event>> source, Executor sourceExecutor, long debounceMillis) {
+        try {
+            Files.createDirectories(directory);
+            this.generation = SharedSnapshot.currentGeneration(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.directory = directory;
+        this.source = source;
+        this.sourceExecutor = sourceExecutor;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /** Notes a change; a publication follows after the debounce delay. */
+    public synchronized void changed() {
+        if (scheduled) return;
+        scheduled = true;
+        worker.schedule(() -> {
+            synchronized (this) {
+                scheduled = false;
+            }
+            sourceExecutor.execute(() -> {
+                Collection<Event> events = source.get();
+                worker.execute(() -> publish(events));
+            });
+        }, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void publish(Collection<Event> events) {
+        try {
+            SharedSnapshot.publish(directory, ++generation, events);
+        } catch (IOException e) {
+            System.err.println("Calendar snapshot publication failed: " + e);
+        }
+    }
+}
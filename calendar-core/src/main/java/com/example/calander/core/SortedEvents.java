@@ -0,0 +1,55 @@
+package com.example.calander.core;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Events ordered by start date for paging through large result sets. The order is computed on
+ * packed-date keys in a primitive array, so a million results sort without a comparator or
+ * boxing, and rows are then read by index without copying.
+ */
+public final class SortedEvents {
+    private static final SortedEvents EMPTY = new SortedEvents(new Event[0]);
+
+    private final Event[] events;
+
+    private SortedEvents(Event[] events) {
+        this.events = events;
+    }
+
+    public static SortedEvents empty() {
+        return EMPTY;
+    }
+
+    /** Sorts a snapshot of {@code source}; events with the same date keep their source order. */
+    public static SortedEvents byDate(Collection<Event> source) {
+        Event[] unsorted = source.toArray(new Event[0]);
+        long[] keys = new long[unsorted.length];
+        for (int i = 0; i < unsorted.length; i++) keys[i] = ((long) unsorted[i].packedDate() << 32) | i;
+        Arrays.sort(keys);
+        Event[] sorted = new Event[unsorted.length];
+        for (int i = 0; i < keys.length; i++) sorted[i] = unsorted[(int) keys[i]];
+        return new SortedEvents(sorted);
+    }
+
+    public int size() {
+        return events.length;
+    }
+
+    public Event get(int index) {
+        return events[index];
+    }
+
+    /** Returns the index of the first event on or after {@code date}, or {@link #size()} if none. */
+    public int indexOf(LocalDate date) {
+        int key = Event.pack(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        int lo = 0, hi = events.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (events[mid].packedDate() < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,390 @@
+package com.example.calander.core;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replicates an engine's events through a {@link SyncServer}. Every local change becomes a
+ * {@link SyncRecord} carrying the event's version vector; only the newest unacknowledged version
+ * of each event is kept, and all of them go out in one batch as soon as the connection is free.
+ * Remote versions are merged like on the server: newer ones are applied, stale ones ignored and
+ * concurrent ones settled by timestamp, then replica id.
+ * <p>
+ * Events are identified across replicas by a global id: the replica id in the bits above
+ * {@link EventStore#FOREIGN_IDS} and the local id below, so local ids never change. Replica id,
+ * server position, versions and unacknowledged changes are kept in {@code sync.state}, so a
+ * restarted client resumes where it stopped; changes made while sync was off are picked up for
+ * added and removed events, not for edits.
+ * <p>
+ * Client state is guarded by the engine's write lock, which local changes already hold when
+ * they are reported. Local and remote edits both go through {@link CalendarEngine#edit}, which
+ * applies them whole under that lock, so a remote version is never applied halfway through a
+ * local edit.
+ */
+public final class SyncClient implements AutoCloseable {
+    private static final int STATE_MAGIC = 0x4C475354; // "LGST"
+    private static final int STATE_VERSION = 1;
+    private static final long SAVE_INTERVAL_MILLIS = 2_000, MAX_BACKOFF_MILLIS = 30_000;
+
+    private record Version(VersionVector vector, long timestamp, int writer, boolean deleted) {
+    }
+
+    private final CalendarEngine engine;
+    private final Path stateFile;
+    private final InetSocketAddress server;
+    private final Executor notifyExecutor;
+    private final Runnable onRemoteChanges;
+    private final CalendarEngine.Listener listener = this::changed;
+    private final Map<Long, Event> index = new HashMap<>();
+    private final Map<Long, Version> versions = new HashMap<>();
+    private final Map<Long, SyncRecord> unacked = new LinkedHashMap<>();
+    private final LinkedBlockingQueue<Long> outbox = new LinkedBlockingQueue<>();
+    private final AtomicBoolean notifyPending = new AtomicBoolean();
+    private int replica;
+    private long epoch;
+    private volatile long lastSeq;
+    private volatile boolean connected, closed, dirty;
+    private volatile long savedAt;
+    // Thread applying remote versions; its engine changes are not sent back.
+    private volatile Thread applying;
+    private volatile SocketChannel channel;
+    private Thread connector;
+
+    /**
+     * @param directory       where {@code sync.state} is kept
+     * @param notifyExecutor  thread {@code onRemoteChanges} runs on, e.g. {@code Platform::runLater}
+     * @param onRemoteChanges called once per burst of applied remote changes
+     */
+    public SyncClient(CalendarEngine engine, Path directory, InetSocketAddress server, Executor notifyExecutor, Runnable onRemoteChanges) throws IOException {
+        this.engine = engine;
+        this.stateFile = directory.resolve("sync.state");
+        this.server = server;
+        this.notifyExecutor = notifyExecutor;
+        this.onRemoteChanges = onRemoteChanges;
+        Files.createDirectories(directory);
+        if (Files.exists(stateFile)) {
+            loadState();
+        } else {
+            replica = ThreadLocalRandom.current().nextInt(1, 1 << 23);
+            dirty = true;
+        }
+    }
+
+    /** Indexes the engine's events, queues what changed while sync was off and starts connecting. */
+    public void start() {
+        engine.locked(() -> {
+            for (Event e : engine.all()) index.put(gid(e), e);
+            for (var entry : index.entrySet()) {
+                Version v = versions.get(entry.getKey());
+                if (v == null || v.deleted()) queue(entry.getKey(), entry.getValue());
+            }
+            for (var entry : versions.entrySet()) {
+                if (!entry.getValue().deleted() && !index.containsKey(entry.getKey())) queue(entry.getKey(), null);
+            }
+            engine.addListener(listener);
+        });
+        connector = Thread.ofVirtual().name("calendar-sync-client").start(this::connectLoop);
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /** Server sequence number up to which remote changes have been applied. */
+    public long appliedSeq() {
+        return lastSeq;
+    }
+
+    /** Number of local changes the server has not acknowledged yet. */
+    public int pending() {
+        int[] n = new int[1];
+        engine.locked(() -> n[0] = unacked.size());
+        return n[0];
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        engine.removeListener(listener);
+        SocketChannel ch = channel;
+        if (ch != null) ch.close();
+        if (connector != null) connector.interrupt();
+        saveState();
+    }
+
+    private long gid(Event e) {
+        return e.id >= EventStore.FOREIGN_IDS ? e.id : (long) replica << 40 | e.id;
+    }
+
+    private long localId(long gid) {
+        return gid >>> 40 == replica ? gid & (EventStore.FOREIGN_IDS - 1) : gid;
+    }
+
+    // --- local changes, called with the engine's write lock held ---
+
+    private void changed(CalendarEngine.Change change, Event e) {
+        long gid = gid(e);
+        if (change == CalendarEngine.Change.REMOVED) index.remove(gid);
+        else index.put(gid, e);
+        if (Thread.currentThread() != applying) queue(gid, change == CalendarEngine.Change.REMOVED ? null : e);
+    }
+
+    /** Records a new local version of the event, or its deletion when {@code e} is null. */
+    private void queue(long gid, Event e) {
+        Version old = versions.get(gid);
+        VersionVector vector = (old == null ? VersionVector.EMPTY : old.vector()).increment(replica);
+        long timestamp = Math.max(System.currentTimeMillis(), old == null ? 0 : old.timestamp() + 1);
+        versions.put(gid, new Version(vector, timestamp, replica, e == null));
+        unacked.put(gid, new SyncRecord(gid, 0, timestamp, replica, vector, e == null ? null : encode(gid, e)));
+        dirty = true;
+        outbox.add(gid);
+    }
+
+    private static byte[] encode(long gid, Event e) {
+        byte[] bytes = EventJournal.encode(e);
+        ByteBuffer.wrap(bytes).putLong(0, gid);
+        return bytes;
+    }
+
+    // --- remote changes ---
+
+    private void apply(List<SyncRecord> records) {
+        boolean[] changed = new boolean[1];
+        applying = Thread.currentThread();
+        try {
+            engine.locked(() -> {
+                byte[] scratch = new byte[256];
+                Map<Long, Event> added = new LinkedHashMap<>();
+                for (SyncRecord record : records) {
+                    lastSeq = Math.max(lastSeq, record.seq());
+                    long gid = record.gid();
+                    SyncRecord mine = unacked.get(gid);
+                    if (mine != null) {
+                        VersionVector.Order order = mine.version().compare(record.version());
+                        if (order == VersionVector.Order.BEFORE || order == VersionVector.Order.EQUAL) unacked.remove(gid);
+                    }
+                    Version local = versions.get(gid);
+                    VersionVector vector = record.version();
+                    if (local != null) {
+                        VersionVector.Order order = vector.compare(local.vector());
+                        if (order == VersionVector.Order.EQUAL || order == VersionVector.Order.BEFORE) continue;
+                        if (order == VersionVector.Order.CONCURRENT) {
+                            vector = vector.merge(local.vector());
+                            if (!record.winsOver(local.timestamp(), local.writer())) {
+                                versions.put(gid, new Version(vector, local.timestamp(), local.writer(), local.deleted()));
+                                continue;
+                            }
+                        }
+                    }
+                    versions.put(gid, new Version(vector, record.timestamp(), record.writer(), record.isDelete()));
+                    changed[0] = true;
+                    added.remove(gid);
+                    Event existing = index.get(gid);
+                    if (record.isDelete()) {
+                        if (existing != null) engine.remove(existing);
+                        continue;
+                    }
+                    Event incoming = EventJournal.decode(ByteBuffer.wrap(record.event()), scratch);
+                    incoming.id = localId(gid);
+                    if (existing == null) {
+                        added.put(gid, incoming);
+                    } else if (existing.packedDate() == incoming.packedDate()) {
+                        boolean edited = engine.edit(existing, e -> {
+                            e.setText(incoming.title, incoming.note);
+                            e.category = incoming.category;
+                            e.recurrence = incoming.recurrence;
+                            e.setReminderTime(incoming.reminderTime());
+                            e.setMinutes(incoming.startMinute(), incoming.endMinute());
+                        });
+                        if (!edited) added.put(gid, incoming);
+                    } else {
+                        engine.remove(existing);
+                        added.put(gid, incoming);
+                    }
+                }
+                if (!added.isEmpty()) engine.addAll(added.values(), false);
+                dirty = true;
+            });
+        } finally {
+            applying = null;
+        }
+        if (changed[0] && notifyPending.compareAndSet(false, true)) {
+            notifyExecutor.execute(() -> {
+                notifyPending.set(false);
+                onRemoteChanges.run();
+            });
+        }
+    }
+
+    // --- connection ---
+
+    private void connectLoop() {
+        long backoff = 1_000;
+        while (!closed) {
+            Thread writer = null;
+            try (SocketChannel ch = SocketChannel.open(server)) {
+                ch.socket().setTcpNoDelay(true);
+                channel = ch;
+                SyncProtocol.writeHello(ch, replica, epoch, lastSeq);
+                SyncProtocol.Frame welcome = SyncProtocol.read(ch);
+                if (welcome.type() != SyncProtocol.WELCOME) throw new IOException("not a calendar sync server");
+                long serverEpoch = welcome.payload().getLong();
+                if (serverEpoch != epoch) engine.locked(() -> restart(serverEpoch));
+                connected = true;
+                backoff = 1_000;
+                writer = Thread.ofVirtual().name("calendar-sync-send").start(() -> send(ch));
+                while (!closed) {
+                    SyncProtocol.Frame frame = SyncProtocol.read(ch);
+                    if (frame.type() == SyncProtocol.CHANGES) apply(SyncProtocol.readChanges(frame.payload()));
+                }
+            } catch (IOException e) {
+                if (!closed && connected) System.err.println("Sync connection lost: " + e.getMessage());
+            } finally {
+                connected = false;
+                channel = null;
+                if (writer != null) writer.interrupt();
+            }
+            if (closed) return;
+            saveIfDue();
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                return;
+            }
+            backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    /** The server lost its state or is another node: start over from its position 0 and push everything. */
+    private void restart(long serverEpoch) {
+        epoch = serverEpoch;
+        lastSeq = 0;
+        for (var entry : versions.entrySet()) {
+            long gid = entry.getKey();
+            Version v = entry.getValue();
+            if (unacked.containsKey(gid)) continue;
+            Event e = index.get(gid);
+            if (e == null && !v.deleted()) continue;
+            unacked.put(gid, new SyncRecord(gid, 0, v.timestamp(), v.writer(), v.vector(), e == null ? null : encode(gid, e)));
+        }
+        dirty = true;
+    }
+
+    /** Sends every unacknowledged change, then each new batch as it is queued. */
+    private void send(SocketChannel ch) {
+        List<SyncRecord> batch = new ArrayList<>();
+        Set<Long> gids = new LinkedHashSet<>();
+        try {
+            outbox.clear();
+            engine.locked(() -> batch.addAll(unacked.values()));
+            while (!closed && ch.isOpen()) {
+                if (!batch.isEmpty()) SyncProtocol.writeChanges(ch, batch);
+                batch.clear();
+                Long gid = outbox.poll(SAVE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                saveIfDue();
+                if (gid == null) continue;
+                gids.clear();
+                gids.add(gid);
+                while ((gid = outbox.poll()) != null) gids.add(gid);
+                engine.locked(() -> {
+                    for (Long g : gids) {
+                        SyncRecord record = unacked.get(g);
+                        if (record != null) batch.add(record);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            try {
+                ch.close();
+            } catch (IOException ignored) {
+            }
+        } catch (InterruptedException e) {
+            // Connection ended.
+        }
+    }
+
+    // --- state file ---
+
+    private void saveIfDue() {
+        long now = System.currentTimeMillis();
+        if (dirty && now - savedAt >= SAVE_INTERVAL_MILLIS) {
+            savedAt = now;
+            saveState();
+        }
+    }
+
+    private void saveState() {
+        ByteBuffer[] out = new ByteBuffer[1];
+        engine.locked(() -> {
+            dirty = false;
+            int size = 4 + 4 + 4 + 8 + 8 + 4 + 4;
+            for (Version v : versions.values()) size += 8 + 8 + 4 + 1 + v.vector().encodedSize();
+            for (SyncRecord record : unacked.values()) size += record.encodedSize();
+            ByteBuffer buf = ByteBuffer.allocate(size);
+            buf.putInt(STATE_MAGIC).putInt(STATE_VERSION).putInt(replica).putLong(epoch).putLong(lastSeq).putInt(versions.size());
+            for (var entry : versions.entrySet()) {
+                Version v = entry.getValue();
+                buf.putLong(entry.getKey()).putLong(v.timestamp()).putInt(v.writer()).put((byte) (v.deleted() ? 1 : 0));
+                v.vector().write(buf);
+            }
+            buf.putInt(unacked.size());
+            for (SyncRecord record : unacked.values()) record.write(buf);
+            out[0] = buf.flip();
+        });
+        Path tmp = stateFile.resolveSibling("sync.state.tmp");
+        // A stream rather than a channel: the sender thread saving here may be interrupted when its
+        // connection ends, which would close a channel mid-write.
+        try (FileOutputStream stream = new FileOutputStream(tmp.toFile())) {
+            stream.write(out[0].array(), 0, out[0].limit());
+            stream.getFD().sync();
+        } catch (IOException e) {
+            System.err.println("Sync state not saved: " + e);
+            dirty = true;
+            return;
+        }
+        try {
+            Files.move(tmp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Sync state not saved: " + e);
+            dirty = true;
+        }
+    }
+
+    private void loadState() throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(stateFile));
+        if (buf.remaining() < 32 || buf.getInt() != STATE_MAGIC || buf.getInt() != STATE_VERSION) {
+            throw new IOException("Unrecognized sync state " + stateFile);
+        }
+        replica = buf.getInt();
+        epoch = buf.getLong();
+        lastSeq = buf.getLong();
+        for (int i = 0, n = buf.getInt(); i < n; i++) {
+            long gid = buf.getLong(), timestamp = buf.getLong();
+            int writer = buf.getInt();
+            boolean deleted = buf.get() != 0;
+            versions.put(gid, new Version(VersionVector.read(buf), timestamp, writer, deleted));
+        }
+        for (int i = 0, n = buf.getInt(); i < n; i++) {
+            SyncRecord record = SyncRecord.read(buf);
+            unacked.put(record.gid(), record);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.calander.core;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wire format shared by {@link SyncServer} and {@link SyncClient}. Every frame is an int length,
+ * a type byte and a payload:
+ * <pre>
+ * HELLO    client -> server   magic, version, replica, epoch, last seq
+ * WELCOME  server -> client   epoch
+ * CHANGES  both ways          record count, then {@link SyncRecord}s
+ * </pre>
+ * Senders batch everything pending into as few CHANGES frames as the size cap allows and never
+ * wait for a reply before sending the next, so a burst of edits costs one round of writes.
+ */
+final class SyncProtocol {
+    static final int MAGIC = 0x4C475359; // "LGSY"
+    static final int VERSION = 1;
+    static final byte HELLO = 1, WELCOME = 2, CHANGES = 3;
+    static final int MAX_FRAME = 16 << 20;
+    /** Payload size at which a batch is cut into another frame. */
+    static final int BATCH_BYTES = 256 << 10;
+
+    record Frame(byte type, ByteBuffer payload) {
+    }
+
+    private SyncProtocol() {
+    }
+
+    static void writeHello(SocketChannel channel, int replica, long epoch, long lastSeq) throws IOException {
+        ByteBuffer payload = ByteBuffer.allocate(28).putInt(MAGIC).putInt(VERSION).putInt(replica).putLong(epoch).putLong(lastSeq);
+        write(channel, HELLO, payload.flip());
+    }
+
+    static void writeWelcome(SocketChannel channel, long epoch) throws IOException {
+        write(channel, WELCOME, ByteBuffer.allocate(8).putLong(epoch).flip());
+    }
+
+    /** Sends the records in as many CHANGES frames as {@link #BATCH_BYTES} requires. */
+    static void writeChanges(SocketChannel channel, List<SyncRecord> records) throws IOException {
+        int from = 0;
+        while (from < records.size()) {
+            int to = from, size = 4;
+            while (to < records.size() && (to == from || size + records.get(to).encodedSize() <= BATCH_BYTES)) {
+                size += records.get(to++).encodedSize();
+            }
+            ByteBuffer payload = ByteBuffer.allocate(size).putInt(to - from);
+            for (int i = from; i < to; i++) records.get(i).write(payload);
+            write(channel, CHANGES, payload.flip());
+            from = to;
+        }
+    }
+
+    static List<SyncRecord> readChanges(ByteBuffer payload) {
+        int count = payload.getInt();
+        List<SyncRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) records.add(SyncRecord.read(payload));
+        return records;
+    }
+
+    static Frame read(SocketChannel channel) throws IOException {
+        ByteBuffer header = readFully(channel, ByteBuffer.allocate(5));
+        int length = header.getInt();
+        byte type = header.get();
+        if (length < 0 || length > MAX_FRAME) throw new IOException("bad sync frame length " + length);
+        return new Frame(type, readFully(channel, ByteBuffer.allocate(length)));
+    }
+
+    private static void write(SocketChannel channel, byte type, ByteBuffer payload) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(5).putInt(payload.remaining()).put(type).flip();
+        ByteBuffer[] frame = {header, payload};
+        while (header.hasRemaining() || payload.hasRemaining()) channel.write(frame);
+    }
+
+    private static ByteBuffer readFully(SocketChannel channel, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) {
+            if (channel.read(buf) < 0) throw new EOFException("sync peer closed the connection");
+        }
+        return buf.flip();
+    }
+}
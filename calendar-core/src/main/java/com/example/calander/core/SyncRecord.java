@@ -0,0 +1,52 @@
+package com.example.calander.core;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One replicated event version: the event encoded as in the journal (with its global id), or no
+ * payload for a deletion. {@code seq} is the server's log position, 0 until the server accepts it.
+ *
+ * @param timestamp wall-clock millis of the edit, made monotonic per event by its writer
+ * @param writer    replica that made the edit; breaks timestamp ties
+ */
+record SyncRecord(long gid, long seq, long timestamp, int writer, VersionVector version, byte[] event) {
+    boolean isDelete() {
+        return event == null;
+    }
+
+    /** Last-writer-wins order for concurrent versions: later timestamp first, then higher replica id. */
+    boolean winsOver(long otherTimestamp, int otherWriter) {
+        return timestamp != otherTimestamp ? timestamp > otherTimestamp : writer > otherWriter;
+    }
+
+    SyncRecord with(long seq, VersionVector version) {
+        return new SyncRecord(gid, seq, timestamp, writer, version, event);
+    }
+
+    int encodedSize() {
+        return 8 + 8 + 8 + 4 + version.encodedSize() + 4 + (event == null ? 0 : event.length);
+    }
+
+    void write(ByteBuffer buf) {
+        buf.putLong(gid).putLong(seq).putLong(timestamp).putInt(writer);
+        version.write(buf);
+        if (event == null) {
+            buf.putInt(-1);
+        } else {
+            buf.putInt(event.length).put(event);
+        }
+    }
+
+    static SyncRecord read(ByteBuffer buf) {
+        long gid = buf.getLong(), seq = buf.getLong(), timestamp = buf.getLong();
+        int writer = buf.getInt();
+        VersionVector version = VersionVector.read(buf);
+        int length = buf.getInt();
+        byte[] event = null;
+        if (length >= 0) {
+            event = new byte[length];
+            buf.get(event);
+        }
+        return new SyncRecord(gid, seq, timestamp, writer, version, event);
+    }
+}
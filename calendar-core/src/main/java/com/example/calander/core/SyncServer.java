@@ -0,0 +1,206 @@
+package com.example.calander.core;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Embedded sync node. Keeps the newest version of every event in a log ordered by sequence
+ * number, in which each event appears once, and streams that log to connected
+ * {@link SyncClient}s. Each connection gets a virtual thread that reads and merges incoming
+ * batches and another that sends everything past the client's position in one batch, so a slow
+ * client simply skips versions that were superseded meanwhile.
+ * <p>
+ * Incoming versions are merged per event by version vector: newer versions replace older ones,
+ * stale ones are dropped, and concurrent edits go to the later timestamp (then the higher
+ * replica id) under the merged vector. Clients resolve the same way, so every replica converges.
+ * State lives in memory; a restart picks a new epoch, and clients then push their whole calendar
+ * again to rebuild it.
+ */
+public final class SyncServer implements AutoCloseable {
+    private static final long MIN_BACKOFF_MILLIS = 100, MAX_BACKOFF_MILLIS = 5_000;
+
+    private final long epoch = ThreadLocalRandom.current().nextLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final NavigableMap<Long, SyncRecord> log = new TreeMap<>();
+    private final Map<Long, SyncRecord> latest = new HashMap<>();
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private final ServerSocketChannel server;
+    private long seq;
+    private volatile boolean closed;
+
+    /** Binds the server; port 0 picks a free one, see {@link #port()}. */
+    public SyncServer(InetSocketAddress address) throws IOException {
+        this.server = ServerSocketChannel.open().bind(address, 1024);
+    }
+
+    public void start() {
+        Thread.ofVirtual().name("calendar-sync-accept").start(this::acceptLoop);
+    }
+
+    public int port() {
+        try {
+            return ((InetSocketAddress) server.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int connections() {
+        return connections.size();
+    }
+
+    /** Sequence number of the newest accepted version. */
+    public long sequence() {
+        lock.lock();
+        try {
+            return seq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        server.close();
+        for (SocketChannel channel : connections) channel.close();
+        lock.lock();
+        try {
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Accepts connections; a failing accept, e.g. out of file descriptors, is retried with backoff. */
+    private void acceptLoop() {
+        long backoff = 0;
+        while (!closed) {
+            try {
+                SocketChannel channel = server.accept();
+                backoff = 0;
+                channel.socket().setTcpNoDelay(true);
+                connections.add(channel);
+                Thread.ofVirtual().name("calendar-sync-in").start(() -> serve(channel));
+            } catch (IOException e) {
+                if (closed) return;
+                System.err.println("Sync accept failed: " + e.getMessage());
+                backoff = Math.min(Math.max(backoff * 2, MIN_BACKOFF_MILLIS), MAX_BACKOFF_MILLIS);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        try (channel) {
+            SyncProtocol.Frame hello = SyncProtocol.read(channel);
+            var payload = hello.payload();
+            if (hello.type() != SyncProtocol.HELLO || payload.getInt() != SyncProtocol.MAGIC || payload.getInt() != SyncProtocol.VERSION) {
+                throw new IOException("not a calendar sync client");
+            }
+            payload.getInt();
+            long clientEpoch = payload.getLong(), lastSeq = payload.getLong();
+            SyncProtocol.writeWelcome(channel, epoch);
+            long from = clientEpoch == epoch ? lastSeq : 0;
+            Thread.ofVirtual().name("calendar-sync-out").start(() -> send(channel, from));
+            while (!closed) {
+                SyncProtocol.Frame frame = SyncProtocol.read(channel);
+                if (frame.type() == SyncProtocol.CHANGES) merge(SyncProtocol.readChanges(frame.payload()));
+            }
+        } catch (IOException e) {
+            // Client went away; its sender stops on the closed channel.
+        } finally {
+            connections.remove(channel);
+            lock.lock();
+            try {
+                appended.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void merge(List<SyncRecord> incoming) {
+        lock.lock();
+        try {
+            boolean changed = false;
+            for (SyncRecord record : incoming) {
+                SyncRecord stored = latest.get(record.gid());
+                SyncRecord accepted;
+                if (stored == null) {
+                    accepted = record;
+                } else {
+                    switch (record.version().compare(stored.version())) {
+                        case AFTER -> accepted = record;
+                        case CONCURRENT -> {
+                            VersionVector merged = record.version().merge(stored.version());
+                            accepted = record.winsOver(stored.timestamp(), stored.writer()) ? record.with(0, merged) : stored.with(0, merged);
+                        }
+                        default -> accepted = null;
+                    }
+                }
+                if (accepted == null) continue;
+                if (stored != null) log.remove(stored.seq());
+                accepted = accepted.with(++seq, accepted.version());
+                latest.put(accepted.gid(), accepted);
+                log.put(accepted.seq(), accepted);
+                changed = true;
+            }
+            if (changed) appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Streams every version past {@code from}, then each new batch as it is merged. */
+    private void send(SocketChannel channel, long from) {
+        long sent = from;
+        List<SyncRecord> batch = new ArrayList<>();
+        try {
+            while (!closed && channel.isOpen()) {
+                lock.lock();
+                try {
+                    while (log.isEmpty() || log.lastKey() <= sent) {
+                        if (closed || !channel.isOpen()) return;
+                        appended.await();
+                    }
+                    batch.clear();
+                    batch.addAll(log.tailMap(sent, false).values());
+                    sent = seq;
+                } finally {
+                    lock.unlock();
+                }
+                SyncProtocol.writeChanges(channel, batch);
+            }
+        } catch (IOException | InterruptedException e) {
+            // The reader closes the channel and ends the connection.
+        }
+    }
+
+    /** Runs a standalone sync node: {@code SyncServer [port]}, 7070 by default. */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7070;
+        SyncServer server = new SyncServer(new InetSocketAddress(port));
+        server.start();
+        System.out.println("Calendar sync listening on port " + server.port());
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.calander.core;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Immutable version vector: per replica, how many of its edits to one event are included.
+ * Replicas are kept sorted, so comparing and merging is a single pass. Events are rarely edited
+ * by more than a handful of replicas, so the arrays stay tiny.
+ */
+final class VersionVector {
+    static final VersionVector EMPTY = new VersionVector(new int[0], new int[0]);
+
+    enum Order { EQUAL, BEFORE, AFTER, CONCURRENT }
+
+    private final int[] replicas;
+    private final int[] counters;
+
+    private VersionVector(int[] replicas, int[] counters) {
+        this.replicas = replicas;
+        this.counters = counters;
+    }
+
+    /** A copy with the replica's counter advanced by one. */
+    VersionVector increment(int replica) {
+        int i = Arrays.binarySearch(replicas, replica);
+        if (i >= 0) {
+            int[] next = counters.clone();
+            next[i]++;
+            return new VersionVector(replicas, next);
+        }
+        int at = -i - 1, n = replicas.length;
+        int[] r = new int[n + 1], c = new int[n + 1];
+        System.arraycopy(replicas, 0, r, 0, at);
+        System.arraycopy(counters, 0, c, 0, at);
+        r[at] = replica;
+        c[at] = 1;
+        System.arraycopy(replicas, at, r, at + 1, n - at);
+        System.arraycopy(counters, at, c, at + 1, n - at);
+        return new VersionVector(r, c);
+    }
+
+    /** Entry-wise maximum of both vectors. */
+    VersionVector merge(VersionVector other) {
+        int[] r = new int[replicas.length + other.replicas.length], c = new int[r.length];
+        int i = 0, j = 0, n = 0;
+        while (i < replicas.length || j < other.replicas.length) {
+            if (j == other.replicas.length || (i < replicas.length && replicas[i] < other.replicas[j])) {
+                r[n] = replicas[i];
+                c[n++] = counters[i++];
+            } else if (i == replicas.length || other.replicas[j] < replicas[i]) {
+                r[n] = other.replicas[j];
+                c[n++] = other.counters[j++];
+            } else {
+                r[n] = replicas[i];
+                c[n++] = Math.max(counters[i++], other.counters[j++]);
+            }
+        }
+        return new VersionVector(Arrays.copyOf(r, n), Arrays.copyOf(c, n));
+    }
+
+    /** How this vector relates to {@code other}: BEFORE means {@code other} includes every edit seen here. */
+    Order compare(VersionVector other) {
+        boolean less = false, greater = false;
+        int i = 0, j = 0;
+        while (i < replicas.length || j < other.replicas.length) {
+            int mine, theirs;
+            if (j == other.replicas.length || (i < replicas.length && replicas[i] < other.replicas[j])) {
+                mine = counters[i++];
+                theirs = 0;
+            } else if (i == replicas.length || other.replicas[j] < replicas[i]) {
+                mine = 0;
+                theirs = other.counters[j++];
+            } else {
+                mine = counters[i++];
+                theirs = other.counters[j++];
+            }
+            if (mine < theirs) less = true;
+            else if (mine > theirs) greater = true;
+        }
+        return less ? greater ? Order.CONCURRENT : Order.BEFORE : greater ? Order.AFTER : Order.EQUAL;
+    }
+
+    int encodedSize() {
+        return 2 + replicas.length * 8;
+    }
+
+    void write(ByteBuffer buf) {
+        buf.putShort((short) replicas.length);
+        for (int i = 0; i < replicas.length; i++) buf.putInt(replicas[i]).putInt(counters[i]);
+    }
+
+    static VersionVector read(ByteBuffer buf) {
+        int n = buf.getShort();
+        if (n == 0) return EMPTY;
+        int[] r = new int[n], c = new int[n];
+        for (int i = 0; i < n; i++) {
+            r[i] = buf.getInt();
+            c[i] = buf.getInt();
+        }
+        return new VersionVector(r, c);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < replicas.length; i++) sb.append(i == 0 ? "" : ", ").append(replicas[i]).append(':').append(counters[i]);
+        return sb.append('}').toString();
+    }
+}
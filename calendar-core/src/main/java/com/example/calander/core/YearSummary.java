@@ -0,0 +1,95 @@
+package com.example.calander.core;
+
+import java.time.LocalDate;
+import java.time.Year;
+
+/**
+ * Occurrence counts and category bitsets for every day of one year, recurrences included. The
+ * store keeps each summary current as events change, so year heatmaps and agenda navigation
+ * read a few compact arrays instead of querying or touching events. Days are 1-based days of
+ * the year. Only the store's writer updates a summary; readers on other threads may see a
+ * day's count before its category bits during a concurrent write.
+ */
+public final class YearSummary {
+    private static final int CATEGORIES = Category.values().length;
+
+    private final int year;
+    private final int length;
+    private final int firstEpochDay;
+    private final int[] monthOffsets = new int[13];
+    private final int[] counts;
+    private final int[] categoryCounts;
+    private final byte[] masks;
+
+    YearSummary(int year) {
+        this.year = year;
+        this.length = Year.isLeap(year) ? 366 : 365;
+        this.firstEpochDay = (int) LocalDate.of(year, 1, 1).toEpochDay();
+        for (int m = 2; m <= 12; m++) monthOffsets[m] = LocalDate.of(year, m, 1).getDayOfYear() - 1;
+        this.counts = new int[length + 1];
+        this.categoryCounts = new int[(length + 1) * CATEGORIES];
+        this.masks = new byte[length + 1];
+    }
+
+    public int year() {
+        return year;
+    }
+
+    /** Number of days in the year. */
+    public int length() {
+        return length;
+    }
+
+    public int dayOfYear(int month, int day) {
+        return monthOffsets[month] + day;
+    }
+
+    /** Occurrences on the day. */
+    public int count(int dayOfYear) {
+        return counts[dayOfYear];
+    }
+
+    /** Bit {@code 1 << category.ordinal()} is set for every category occurring on the day. */
+    public int categoryMask(int dayOfYear) {
+        return masks[dayOfYear];
+    }
+
+    public int maxCount() {
+        int max = 0;
+        for (int day = 1; day <= length; day++) max = Math.max(max, counts[day]);
+        return max;
+    }
+
+    /** Returns the first day at or after {@code fromDayOfYear} with occurrences, or -1 if none. */
+    public int nextBusyDay(int fromDayOfYear) {
+        for (int day = Math.max(1, fromDayOfYear); day <= length; day++) {
+            if (counts[day] > 0) return day;
+        }
+        return -1;
+    }
+
+    int firstEpochDay() {
+        return firstEpochDay;
+    }
+
+    int lastEpochDay() {
+        return firstEpochDay + length - 1;
+    }
+
+    void add(int month, int day, Category category, int delta) {
+        add(dayOfYear(month, day), category, delta);
+    }
+
+    void addEpochDay(int epochDay, Category category, int delta) {
+        add(epochDay - firstEpochDay + 1, category, delta);
+    }
+
+    private void add(int dayOfYear, Category category, int delta) {
+        counts[dayOfYear] += delta;
+        int slot = dayOfYear * CATEGORIES + category.ordinal();
+        categoryCounts[slot] += delta;
+        int bit = 1 << category.ordinal();
+        if (categoryCounts[slot] > 0) masks[dayOfYear] |= (byte) bit;
+        else masks[dayOfYear] &= (byte) ~bit;
+    }
+}
@@ -0,0 +1,5 @@
+module com.example.calander.core {
+    requires jdk.jfr;
+
+    exports com.example.calander.core;
+}
@@ -0,0 +1,82 @@
+package com.example.calander.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Events exported to .ics and imported again come back unchanged. */
+class EventExporterTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsThroughIcs() throws IOException {
+        List<Event> events = new ArrayList<>();
+        Event timed = new Event("Standup 🚀", "Daily sync; bring notes, please", Category.WORK, 2026, 3, 2,
+                RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR"), LocalTime.of(8, 50));
+        timed.setMinutes(540, 555);
+        events.add(timed);
+        events.add(new Event("Birthday 🎂", "", Category.PERSONAL, 2026, 7, 19, RecurrenceRule.YEARLY, null));
+        events.add(new Event("Dentist", "Bring the 𝄞 sheet music", Category.HEALTH, 2026, 4, 1, null, LocalTime.of(7, 30)));
+        Event thanksgiving = new Event("Thanksgiving", "", Category.OTHER, 2026, 11, 26,
+                RecurrenceRule.parse("FREQ=YEARLY;BYMONTH=11;BYDAY=4TH", LocalDate.of(2026, 11, 26)), null);
+        thanksgiving.setRecurrence(thanksgiving.recurrence().withExDate(LocalDate.of(2027, 11, 25)));
+        events.add(thanksgiving);
+
+        List<Event> imported = roundTrip(events);
+        assertEquals(contents(events), contents(imported));
+    }
+
+    @Test
+    void foldsLongNonBmpTextOnCodePoints() throws IOException {
+        String title = "🎉".repeat(40) + " party " + "𝄞".repeat(30);
+        String note = "x".repeat(73) + "😀" + "é".repeat(50);
+        Event e = new Event(title, note, Category.OTHER, 2026, 5, 5, null, null);
+        Path file = directory.resolve("long.ics");
+        try (EventExporter exporter = new EventExporter(file)) {
+            exporter.write(e);
+        }
+
+        byte[] bytes = Files.readAllBytes(file);
+        for (String line : new String(bytes, StandardCharsets.UTF_8).split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75, line);
+            assertFalse(line.contains("�"), line);
+        }
+        List<Event> imported = roundTrip(List.of(e));
+        assertEquals(title, imported.get(0).title());
+        assertEquals(note, imported.get(0).note());
+    }
+
+    private List<Event> roundTrip(List<Event> events) throws IOException {
+        Path file = directory.resolve("events.ics");
+        try (EventExporter exporter = new EventExporter(file)) {
+            assertEquals(events.size(), exporter.exportAll(events, written -> { }));
+        }
+        List<Event> imported = new ArrayList<>();
+        EventImporter.Result result = new EventImporter(imported::addAll, (n, read, total, elapsed) -> { }).importFile(file);
+        assertEquals(events.size(), result.events());
+        assertEquals(0, result.skipped());
+        assertEquals(0, result.unsupportedRules());
+        return imported;
+    }
+
+    private static List<String> contents(List<Event> events) {
+        List<String> rows = new ArrayList<>();
+        for (Event e : events) {
+            rows.add(e.date() + "|" + e.title() + "|" + e.note() + "|" + e.category() + "|" + e.recurrence()
+                    + "|" + e.reminderMinute() + "|" + e.startMinute() + "-" + e.endMinute());
+        }
+        rows.sort(null);
+        return rows;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.calander.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Replay keeps every intact entry of a journal whose tail was torn or corrupted, and writes go on after it. */
+class EventJournalTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysEverythingAfterCleanClose() throws IOException {
+        write(5);
+        assertEquals(titles(0, 5), loadTitles());
+    }
+
+    @Test
+    void dropsTornLastEntry() throws IOException {
+        write(5);
+        try (FileChannel ch = FileChannel.open(journalFile(), WRITE)) {
+            ch.truncate(ch.size() - 3);
+        }
+        assertEquals(titles(0, 4), loadTitles());
+    }
+
+    @Test
+    void dropsCorruptLastEntry() throws IOException {
+        write(5);
+        flipByte(journalFile(), -2);
+        assertEquals(titles(0, 4), loadTitles());
+    }
+
+    @Test
+    void stopsAtCorruptEntryInTheMiddle() throws IOException {
+        write(5);
+        // The first entry's payload: nothing behind it can be trusted to start where its length says.
+        flipByte(journalFile(), 20);
+        assertEquals(List.of(), loadTitles());
+    }
+
+    @Test
+    void ignoresGarbageLengthAtTail() throws IOException {
+        write(3);
+        try (FileChannel ch = FileChannel.open(journalFile(), WRITE)) {
+            ch.write(ByteBuffer.allocate(12).putInt(Integer.MAX_VALUE).putInt(0).put((byte) 1).flip(), ch.size());
+        }
+        assertEquals(titles(0, 3), loadTitles());
+    }
+
+    @Test
+    void appendsOverTornTailAfterReplay() throws IOException {
+        write(5);
+        try (FileChannel ch = FileChannel.open(journalFile(), WRITE)) {
+            ch.truncate(ch.size() - 3);
+        }
+        CalendarEngine engine = new CalendarEngine(new EventJournal(directory), null);
+        engine.load();
+        engine.add(event("after"));
+        engine.close();
+
+        List<String> expected = new ArrayList<>(titles(0, 4));
+        expected.add("after");
+        assertEquals(expected, loadTitles());
+    }
+
+    private void write(int count) throws IOException {
+        CalendarEngine engine = new CalendarEngine(new EventJournal(directory), null);
+        engine.load();
+        for (int i = 0; i < count; i++) engine.add(event("event " + i));
+        engine.close();
+    }
+
+    private List<String> loadTitles() throws IOException {
+        EventJournal journal = new EventJournal(directory);
+        List<String> result = new ArrayList<>();
+        try (journal) {
+            for (Event e : journal.load()) result.add(e.title());
+        }
+        return result;
+    }
+
+    private Path journalFile() {
+        return directory.resolve("events.log");
+    }
+
+    /** Inverts one byte, counted from the end of the file when {@code offset} is negative. */
+    private static void flipByte(Path file, long offset) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, READ, WRITE)) {
+            long at = offset < 0 ? ch.size() + offset : offset;
+            ByteBuffer b = ByteBuffer.allocate(1);
+            ch.read(b, at);
+            b.put(0, (byte) ~b.get(0));
+            ch.write(b.rewind(), at);
+        }
+    }
+
+    private static List<String> titles(int from, int to) {
+        List<String> result = new ArrayList<>();
+        for (int i = from; i < to; i++) result.add("event " + i);
+        return result;
+    }
+
+    private static Event event(String title) {
+        Event e = new Event(title, "note", Category.WORK, 2026, 3, 14, null, LocalTime.of(9, 0));
+        e.setMinutes(540, 600);
+        return e;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.calander.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Edge cases of busy-time merging, unions and free-slot search. */
+class FreeBusyTest {
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    @Test
+    void emptyCalendarIsFreeAllDay() {
+        FreeBusy.Busy busy = FreeBusy.busy(new EventStore(), DAY, DAY.plusDays(1));
+        assertEquals(List.of(new FreeBusy.Slot(DAY, 540, 1020), new FreeBusy.Slot(DAY.plusDays(1), 540, 1020)),
+                busy.free(540, 1020, 1));
+        assertFalse(busy.isBusy(DAY, 0, 1440));
+    }
+
+    @Test
+    void touchingAndNestedIntervalsMerge() {
+        FreeBusy.Busy busy = FreeBusy.busy(store(540, 600, 600, 660, 620, 640, 700, 800, 720, 730), DAY, DAY);
+        assertEquals(List.of(new FreeBusy.Slot(DAY, 480, 540), new FreeBusy.Slot(DAY, 660, 700),
+                new FreeBusy.Slot(DAY, 800, 1020)), busy.free(480, 1020, 1));
+    }
+
+    @Test
+    void intervalsAreHalfOpen() {
+        FreeBusy.Busy busy = FreeBusy.busy(store(600, 660), DAY, DAY);
+        assertFalse(busy.isBusy(DAY, 540, 600));
+        assertTrue(busy.isBusy(DAY, 599, 601));
+        assertTrue(busy.isBusy(DAY, 659, 660));
+        assertFalse(busy.isBusy(DAY, 660, 720));
+        assertTrue(busy.isBusy(DAY, 0, 1440));
+    }
+
+    @Test
+    void shortGapsAreDropped() {
+        FreeBusy.Busy busy = FreeBusy.busy(store(540, 600, 620, 660), DAY, DAY);
+        assertEquals(List.of(new FreeBusy.Slot(DAY, 660, 720)), busy.free(540, 720, 30));
+        assertEquals(List.of(new FreeBusy.Slot(DAY, 600, 620), new FreeBusy.Slot(DAY, 660, 720)), busy.free(540, 720, 20));
+    }
+
+    @Test
+    void busyOutsideWorkingHoursIsClipped() {
+        FreeBusy.Busy busy = FreeBusy.busy(store(0, 560, 1000, 1440), DAY, DAY);
+        assertEquals(List.of(new FreeBusy.Slot(DAY, 560, 1000)), busy.free(540, 1020, 1));
+        assertEquals(List.of(), FreeBusy.busy(store(480, 1080), DAY, DAY).free(540, 1020, 1));
+    }
+
+    @Test
+    void slotMayRunToMidnight() {
+        FreeBusy.Busy busy = FreeBusy.busy(store(0, 1380), DAY, DAY);
+        FreeBusy.Slot slot = busy.free(0, 1440, 1).get(0);
+        assertEquals(new FreeBusy.Slot(DAY, 1380, 1440), slot);
+        assertEquals(60, slot.minutes());
+    }
+
+    @Test
+    void allDayEventsAreNotBusy() {
+        EventStore store = new EventStore();
+        store.add(new Event("holiday", "", Category.OTHER, DAY.getYear(), DAY.getMonthValue(), DAY.getDayOfMonth(), null, null));
+        assertFalse(FreeBusy.busy(store, DAY, DAY).isBusy(DAY, 0, 1440));
+    }
+
+    @Test
+    void recurringEventsAreBusyOnEveryOccurrence() {
+        EventStore store = new EventStore();
+        Event weekly = new Event("weekly", "", Category.WORK, DAY.getYear(), DAY.getMonthValue(), DAY.getDayOfMonth(),
+                RecurrenceRule.of(RecurrenceRule.Frequency.WEEKLY, 1), null);
+        weekly.setMinutes(600, 660);
+        store.add(weekly);
+        // Spans a month boundary.
+        FreeBusy.Busy busy = FreeBusy.busy(store, DAY, DAY.plusDays(27));
+        for (int i = 0; i < 28; i++) assertEquals(i % 7 == 0, busy.isBusy(DAY.plusDays(i), 630, 631), "day " + i);
+    }
+
+    @Test
+    void unionMergesAcrossCalendars() {
+        FreeBusy.Busy a = FreeBusy.busy(store(540, 600, 700, 720), DAY, DAY);
+        FreeBusy.Busy b = FreeBusy.busy(store(590, 650, 720, 740), DAY, DAY);
+        FreeBusy.Busy empty = FreeBusy.busy(new EventStore(), DAY, DAY);
+        List<FreeBusy.Slot> expected = List.of(new FreeBusy.Slot(DAY, 480, 540), new FreeBusy.Slot(DAY, 650, 700),
+                new FreeBusy.Slot(DAY, 740, 1020));
+        assertEquals(expected, a.union(b).free(480, 1020, 1));
+        assertEquals(expected, b.union(a).free(480, 1020, 1));
+        assertEquals(a.free(480, 1020, 1), a.union(empty).free(480, 1020, 1));
+        assertEquals(a.free(480, 1020, 1), empty.union(a).free(480, 1020, 1));
+    }
+
+    @Test
+    void availableCombinesCalendars() {
+        List<FreeBusy.Slot> slots = FreeBusy.available(List.of(store(540, 600), store(600, 700), new EventStore()),
+                DAY, DAY, LocalTime.of(9, 0), LocalTime.MAX, 60);
+        assertEquals(List.of(new FreeBusy.Slot(DAY, 700, 1440)), slots);
+        assertEquals(List.of(new FreeBusy.Slot(DAY, 540, 1020)),
+                FreeBusy.available(List.of(), DAY, DAY, LocalTime.of(9, 0), LocalTime.of(17, 0), 0));
+    }
+
+    @Test
+    void rejectsMismatchedRanges() {
+        FreeBusy.Busy busy = FreeBusy.busy(new EventStore(), DAY, DAY.plusDays(1));
+        assertThrows(IllegalArgumentException.class, () -> busy.union(FreeBusy.busy(new EventStore(), DAY, DAY)));
+        assertThrows(IllegalArgumentException.class, () -> busy.isBusy(DAY.minusDays(1), 0, 60));
+        assertThrows(IllegalArgumentException.class, () -> busy.isBusy(DAY.plusDays(2), 0, 60));
+        assertThrows(IllegalArgumentException.class, () -> FreeBusy.busy(new EventStore(), DAY, DAY.minusDays(1)));
+    }
+
+    /** A calendar with one timed event on {@link #DAY} per {@code start, end} pair. */
+    private static EventStore store(int... minutes) {
+        EventStore store = new EventStore();
+        for (int i = 0; i < minutes.length; i += 2) {
+            Event e = new Event("busy", "", Category.WORK, DAY.getYear(), DAY.getMonthValue(), DAY.getDayOfMonth(), null, null);
+            e.setMinutes(minutes[i], minutes[i + 1]);
+            store.add(e);
+        }
+        return store;
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.calander.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Expansion checked against the recurrence examples of RFC 5545, section 3.8.5.3. */
+class RecurrenceRuleTest {
+
+    @Test
+    void dailyForTenOccurrences() {
+        assertEquals(dates("1997-09-02", "1997-09-03", "1997-09-04", "1997-09-05", "1997-09-06",
+                        "1997-09-07", "1997-09-08", "1997-09-09", "1997-09-10", "1997-09-11"),
+                expand("FREQ=DAILY;COUNT=10", "1997-09-02", 20));
+    }
+
+    @Test
+    void everyTenDaysFiveOccurrences() {
+        assertEquals(dates("1997-09-02", "1997-09-12", "1997-09-22", "1997-10-02", "1997-10-12"),
+                expand("FREQ=DAILY;INTERVAL=10;COUNT=5", "1997-09-02", 20));
+    }
+
+    @Test
+    void weeklyForTenOccurrences() {
+        assertEquals(dates("1997-09-02", "1997-09-09", "1997-09-16", "1997-09-23", "1997-09-30",
+                        "1997-10-07", "1997-10-14", "1997-10-21", "1997-10-28", "1997-11-04"),
+                expand("FREQ=WEEKLY;COUNT=10", "1997-09-02", 20));
+    }
+
+    @Test
+    void weeklyOnTuesdayAndThursdayForFiveWeeks() {
+        assertEquals(dates("1997-09-02", "1997-09-04", "1997-09-09", "1997-09-11", "1997-09-16",
+                        "1997-09-18", "1997-09-23", "1997-09-25", "1997-09-30", "1997-10-02"),
+                expand("FREQ=WEEKLY;COUNT=10;WKST=SU;BYDAY=TU,TH", "1997-09-02", 20));
+    }
+
+    @Test
+    void everyOtherWeekWithMondayWeekStart() {
+        assertEquals(dates("1997-08-05", "1997-08-10", "1997-08-19", "1997-08-24"),
+                expand("FREQ=WEEKLY;INTERVAL=2;COUNT=4;BYDAY=TU,SU;WKST=MO", "1997-08-05", 20));
+    }
+
+    @Test
+    void monthlyOnFirstFriday() {
+        assertEquals(dates("1997-09-05", "1997-10-03", "1997-11-07", "1997-12-05", "1998-01-02",
+                        "1998-02-06", "1998-03-06", "1998-04-03", "1998-05-01", "1998-06-05"),
+                expand("FREQ=MONTHLY;COUNT=10;BYDAY=1FR", "1997-09-05", 20));
+    }
+
+    @Test
+    void monthlyOnFirstFridayUntil() {
+        assertEquals(dates("1997-09-05", "1997-10-03", "1997-11-07", "1997-12-05"),
+                expand("FREQ=MONTHLY;UNTIL=19971224T000000Z;BYDAY=1FR", "1997-09-05", 20));
+    }
+
+    @Test
+    void everyOtherMonthOnFirstAndLastSunday() {
+        assertEquals(dates("1997-09-07", "1997-09-28", "1997-11-02", "1997-11-30", "1998-01-04",
+                        "1998-01-25", "1998-03-01", "1998-03-29", "1998-05-03", "1998-05-31"),
+                expand("FREQ=MONTHLY;INTERVAL=2;COUNT=10;BYDAY=1SU,-1SU", "1997-09-07", 20));
+    }
+
+    @Test
+    void monthlyOnSecondToLastMonday() {
+        assertEquals(dates("1997-09-22", "1997-10-20", "1997-11-17", "1997-12-22", "1998-01-19", "1998-02-16"),
+                expand("FREQ=MONTHLY;COUNT=6;BYDAY=-2MO", "1997-09-22", 20));
+    }
+
+    @Test
+    void everyThursdayInMarch() {
+        assertEquals(dates("1997-03-13", "1997-03-20", "1997-03-27", "1998-03-05", "1998-03-12",
+                        "1998-03-19", "1998-03-26", "1999-03-04"),
+                expand("FREQ=YEARLY;BYMONTH=3;BYDAY=TH", "1997-03-13", 8));
+    }
+
+    @Test
+    void exDatesAreSkippedButStillCount() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;COUNT=5", date("1997-09-02"))
+                .withExDate(date("1997-09-04"));
+        assertEquals(dates("1997-09-02", "1997-09-03", "1997-09-05", "1997-09-06"), expand(rule, "1997-09-02", 20));
+    }
+
+    @Test
+    void rejectsRulesThatCannotBeExpandedExactly() {
+        LocalDate start = date("1997-09-02");
+        for (String rule : List.of(
+                "FREQ=YEARLY;BYMONTH=6,7",
+                "FREQ=MONTHLY;BYMONTHDAY=2,15",
+                "FREQ=MONTHLY;BYMONTHDAY=-3",
+                "FREQ=YEARLY;BYDAY=20MO",
+                "FREQ=DAILY;UNTIL=20000131T140000Z;BYMONTH=1",
+                "FREQ=WEEKLY;INTERVAL=2;UNTIL=19971224T000000Z;WKST=SU;BYDAY=MO,WE,FR",
+                "FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-2",
+                "FREQ=HOURLY;INTERVAL=3",
+                "INTERVAL=2")) {
+            assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse(rule, start), rule);
+        }
+    }
+
+    @Test
+    void roundTripsThroughRRule() {
+        LocalDate start = date("1997-11-27");
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=YEARLY;BYMONTH=11;BYDAY=4TH", start);
+        RecurrenceRule again = RecurrenceRule.parse(rule.toRRule(start), start);
+        assertEquals(expand(rule, "1997-11-27", 5), expand(again, "1997-11-27", 5));
+        assertEquals(dates("1997-11-27", "1998-11-26", "1999-11-25", "2000-11-23", "2001-11-22"),
+                expand(rule, "1997-11-27", 5));
+    }
+
+    private static List<LocalDate> expand(String rule, String start, int limit) {
+        return expand(RecurrenceRule.parse(rule, date(start)), start, limit);
+    }
+
+    /** At most {@code limit} occurrences within ten years of the start. */
+    private static List<LocalDate> expand(RecurrenceRule rule, String start, int limit) {
+        LocalDate first = date(start);
+        List<LocalDate> result = new ArrayList<>();
+        int from = (int) first.toEpochDay();
+        rule.forEachOccurrence(first, from, (int) first.plusYears(10).toEpochDay(), day -> {
+            result.add(LocalDate.ofEpochDay(day));
+            return result.size() < limit;
+        });
+        return result;
+    }
+
+    private static LocalDate date(String text) {
+        return LocalDate.parse(text);
+    }
+
+    private static List<LocalDate> dates(String... texts) {
+        List<LocalDate> result = new ArrayList<>();
+        for (String text : texts) result.add(date(text));
+        return result;
+    }
+}
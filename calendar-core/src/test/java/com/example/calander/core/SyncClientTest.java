@@ -0,0 +1,163 @@
+package com.example.calander.core;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Replicas syncing through a server on localhost converge on the same events. */
+class SyncClientTest {
+    private static final long CONVERGE_MILLIS = 60_000;
+
+    @TempDir
+    Path directory;
+
+    private final List<SyncClient> clients = new ArrayList<>();
+    private final List<CalendarEngine> engines = new ArrayList<>();
+    private SyncServer server;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (SyncClient client : clients) client.close();
+        if (server != null) server.close();
+    }
+
+    @Test
+    void convergesUnderConcurrentEditsAndDeletes() throws Exception {
+        server = startServer(0);
+        for (int i = 0; i < 3; i++) connect(server.port());
+        for (int i = 0; i < 50; i++) engines.get(0).add(event("seed " + i, i));
+        awaitConverged();
+        assertEquals(50, engines.get(2).size());
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < engines.size(); i++) {
+            CalendarEngine engine = engines.get(i);
+            Random random = new Random(i);
+            String name = "replica " + i;
+            writers.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                    for (int op = 0; op < 200; op++) {
+                        List<Event> all = engine.all();
+                        int roll = random.nextInt(10);
+                        if (all.isEmpty() || roll == 0) {
+                            engine.add(event(name + " added " + op, random.nextInt(28)));
+                        } else if (roll == 1) {
+                            engine.remove(all.get(random.nextInt(all.size())));
+                        } else {
+                            String note = name + " edit " + op;
+                            int minute = random.nextInt(23) * 60;
+                            engine.edit(all.get(random.nextInt(all.size())), e -> {
+                                e.setText(e.title(), note);
+                                e.setMinutes(minute, minute + 60);
+                            });
+                        }
+                        if (op % 10 == 0) Thread.sleep(1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread writer : writers) writer.join();
+        awaitConverged();
+    }
+
+    @Test
+    void convergesAfterServerEpochChange() throws Exception {
+        server = startServer(0);
+        int port = server.port();
+        for (int i = 0; i < 2; i++) connect(port);
+        for (int i = 0; i < 20; i++) engines.get(0).add(event("seed " + i, i));
+        awaitConverged();
+
+        server.close();
+        while (clients.get(0).isConnected() || clients.get(1).isConnected()) Thread.sleep(10);
+        CalendarEngine first = engines.get(0), second = engines.get(1);
+        Event removed = byTitle(first, "seed 3");
+        first.remove(removed);
+        first.edit(byTitle(first, "seed 4"), e -> e.setText(e.title(), "edited offline"));
+        second.edit(byTitle(second, "seed 5"), e -> e.setCategory(Category.WORK));
+        second.add(event("added offline", 12));
+
+        // A new server has a new epoch and no state; both clients push their calendars again.
+        server = startServer(port);
+        awaitConverged();
+        assertEquals(20, second.size());
+        assertNull(byTitle(second, "seed 3"));
+        assertEquals("edited offline", byTitle(second, "seed 4").note());
+        assertEquals(Category.WORK, byTitle(first, "seed 5").category());
+        assertNotNull(byTitle(first, "added offline"));
+    }
+
+    private static SyncServer startServer(int port) throws IOException {
+        SyncServer s = new SyncServer(new InetSocketAddress("127.0.0.1", port));
+        s.start();
+        return s;
+    }
+
+    private void connect(int port) throws IOException {
+        CalendarEngine engine = new CalendarEngine();
+        SyncClient client = new SyncClient(engine, directory.resolve("client" + clients.size()),
+                new InetSocketAddress("127.0.0.1", port), Runnable::run, () -> { });
+        client.start();
+        engines.add(engine);
+        clients.add(client);
+    }
+
+    private static Event event(String title, int day) {
+        Event e = new Event(title, "", Category.OTHER, 2026, 3, 1 + day % 28, null, LocalTime.of(9, 0));
+        e.setMinutes(600, 660);
+        return e;
+    }
+
+    private static Event byTitle(CalendarEngine engine, String title) {
+        for (Event e : engine.all()) if (e.title().equals(title)) return e;
+        return null;
+    }
+
+    /** Waits until every change is acknowledged and applied everywhere, then compares the replicas. */
+    private void awaitConverged() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + CONVERGE_MILLIS;
+        while (!settled()) {
+            if (System.currentTimeMillis() > deadline) break;
+            Thread.sleep(20);
+        }
+        List<String> expected = contents(engines.get(0));
+        for (int i = 1; i < engines.size(); i++) assertEquals(expected, contents(engines.get(i)), "replica " + i);
+    }
+
+    private boolean settled() {
+        long seq = server.sequence();
+        for (SyncClient client : clients) {
+            if (!client.isConnected() || client.pending() > 0 || client.appliedSeq() < seq) return false;
+        }
+        List<String> expected = contents(engines.get(0));
+        for (int i = 1; i < engines.size(); i++) if (!expected.equals(contents(engines.get(i)))) return false;
+        return true;
+    }
+
+    /** Every event's fields, sorted; ids are left out as each replica numbers its own. */
+    private static List<String> contents(CalendarEngine engine) {
+        List<String> rows = new ArrayList<>();
+        for (Event e : engine.all()) {
+            rows.add(e.date() + "|" + e.title() + "|" + e.note() + "|" + e.category() + "|" + e.recurrence()
+                    + "|" + e.reminderMinute() + "|" + e.startMinute() + "-" + e.endMinute());
+        }
+        rows.sort(null);
+        return rows;
+    }
+}